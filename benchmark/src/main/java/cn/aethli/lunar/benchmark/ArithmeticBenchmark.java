@@ -0,0 +1,78 @@
+package cn.aethli.lunar.benchmark;
+
+import cn.aethli.lunar.LunarDate;
+import cn.aethli.lunar.exception.LunarException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * lunar date arithmetic of LunarDate, compared with shifting the gregorian date and converting
+ * back
+ *
+ * @author selcarpa
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ArithmeticBenchmark {
+
+  /**
+   * occurrences of a monthly lunar event to expand
+   */
+  private static final int OCCURRENCES = 12;
+  private LunarDate[] lunarDates;
+  private int index;
+
+  @Setup
+  public void setup() throws LunarException {
+    long[] epochDays = BenchmarkDates.epochDays("random");
+    lunarDates = new LunarDate[BenchmarkDates.SIZE];
+    for (int i = 0; i < BenchmarkDates.SIZE; i++) {
+      // keep two years of headroom for the expansion
+      lunarDates[i] = LunarDate
+          .ofDay(LocalDate.ofEpochDay(Math.min(epochDays[i], BenchmarkDates.MAX_EPOCH_DAY - 800)));
+    }
+  }
+
+  @Benchmark
+  public LunarDate plusDays() throws LunarException {
+    index = (index + 1) & BenchmarkDates.MASK;
+    return lunarDates[index].plusDays(1);
+  }
+
+  @Benchmark
+  public LunarDate plusDaysByGregorian() throws LunarException {
+    index = (index + 1) & BenchmarkDates.MASK;
+    return LunarDate.ofDay(lunarDates[index].getGregorianDate().plusDays(1));
+  }
+
+  @Benchmark
+  public LunarDate sameDayNextYear() throws LunarException {
+    index = (index + 1) & BenchmarkDates.MASK;
+    return lunarDates[index].plusYears(1);
+  }
+
+  @Benchmark
+  public void monthlyOccurrences(Blackhole blackhole) throws LunarException {
+    index = (index + 1) & BenchmarkDates.MASK;
+    LunarDate lunarDate = lunarDates[index];
+    for (int i = 0; i < OCCURRENCES; i++) {
+      lunarDate = lunarDate.plusMonths(1);
+      blackhole.consume(lunarDate);
+    }
+  }
+}
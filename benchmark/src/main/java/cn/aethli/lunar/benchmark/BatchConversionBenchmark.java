@@ -0,0 +1,87 @@
+package cn.aethli.lunar.benchmark;
+
+import cn.aethli.lunar.LunarColumns;
+import cn.aethli.lunar.LunarDate;
+import cn.aethli.lunar.exception.LunarException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * bulk conversion of epoch day columns, compared with converting row by row
+ *
+ * @author selcarpa
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class BatchConversionBenchmark {
+
+  @Param({"1000000", "100000000"})
+  private int rows;
+  private long[] epochDays;
+  private LongBuffer directEpochDays;
+  private int[] packed;
+  private int[] years;
+  private byte[] months;
+  private byte[] days;
+  private byte[] leaps;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(rows);
+    int span = (int) (BenchmarkDates.MAX_EPOCH_DAY - BenchmarkDates.MIN_EPOCH_DAY + 1);
+    epochDays = new long[rows];
+    for (int i = 0; i < rows; i++) {
+      epochDays[i] = BenchmarkDates.MIN_EPOCH_DAY + random.nextInt(span);
+    }
+    directEpochDays = ByteBuffer.allocateDirect(rows * Long.BYTES).asLongBuffer();
+    directEpochDays.put(epochDays).flip();
+    packed = new int[rows];
+    years = new int[rows];
+    months = new byte[rows];
+    days = new byte[rows];
+    leaps = new byte[rows];
+  }
+
+  @Benchmark
+  public int[] rowByRow() throws LunarException {
+    for (int i = 0; i < rows; i++) {
+      packed[i] = LunarDate.toLunarPacked(epochDays[i]);
+    }
+    return packed;
+  }
+
+  @Benchmark
+  public int[] packedArray() {
+    LunarColumns.toLunarPacked(epochDays, packed);
+    return packed;
+  }
+
+  @Benchmark
+  public int[] packedBuffer() {
+    LunarColumns.toLunarPacked(directEpochDays, packed);
+    return packed;
+  }
+
+  @Benchmark
+  public int[] columnsArray() {
+    LunarColumns.toLunarColumns(epochDays, years, months, days, leaps);
+    return years;
+  }
+}
@@ -0,0 +1,79 @@
+package cn.aethli.lunar.benchmark;
+
+import cn.aethli.lunar.LunarDate;
+import cn.aethli.lunar.exception.LunarException;
+import java.time.LocalDate;
+import java.util.Random;
+
+/**
+ * input dates shared by benchmarks
+ * <p>random: uniformly distributed in the supported range
+ * <p>sequential: consecutive days
+ * <p>boundary: first and last days of lunar years and of the supported range
+ *
+ * @author selcarpa
+ **/
+final class BenchmarkDates {
+
+  /**
+   * input length, power of 2 so the next index is a mask
+   */
+  static final int SIZE = 4096;
+  static final int MASK = SIZE - 1;
+  static final long MIN_EPOCH_DAY = LocalDate.of(1901, 2, 19).toEpochDay();
+  static final long MAX_EPOCH_DAY = LocalDate.of(2101, 1, 28).toEpochDay();
+  private static final long SEED = 0x5eedL;
+
+  private BenchmarkDates() {
+  }
+
+  static long[] epochDays(String pattern) throws LunarException {
+    long[] epochDays = new long[SIZE];
+    Random random = new Random(SEED);
+    switch (pattern) {
+      case "random":
+        for (int i = 0; i < SIZE; i++) {
+          epochDays[i] = MIN_EPOCH_DAY + (long) (random.nextDouble() * (MAX_EPOCH_DAY
+              - MIN_EPOCH_DAY + 1));
+        }
+        break;
+      case "sequential":
+        long start = LocalDate.of(2000, 1, 1).toEpochDay();
+        for (int i = 0; i < SIZE; i++) {
+          epochDays[i] = start + i;
+        }
+        break;
+      case "boundary":
+        epochDays[0] = MIN_EPOCH_DAY;
+        epochDays[1] = MAX_EPOCH_DAY;
+        for (int i = 2; i < SIZE; i += 2) {
+          int year = 1902 + random.nextInt(199);
+          long newYear = LunarDate.fromLunarPacked(LunarDate.packLunar(year, 1, 1, false));
+          epochDays[i] = newYear;
+          epochDays[i + 1] = newYear - 1;
+        }
+        break;
+      default:
+        throw new IllegalArgumentException(pattern);
+    }
+    return epochDays;
+  }
+
+  static LocalDate[] gregorianDates(String pattern) throws LunarException {
+    long[] epochDays = epochDays(pattern);
+    LocalDate[] gregorianDates = new LocalDate[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      gregorianDates[i] = LocalDate.ofEpochDay(epochDays[i]);
+    }
+    return gregorianDates;
+  }
+
+  static int[] lunarDates(String pattern) throws LunarException {
+    long[] epochDays = epochDays(pattern);
+    int[] lunarDates = new int[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      lunarDates[i] = LunarDate.toLunarPacked(epochDays[i]);
+    }
+    return lunarDates;
+  }
+}
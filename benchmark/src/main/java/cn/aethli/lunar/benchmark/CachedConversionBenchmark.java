@@ -0,0 +1,55 @@
+package cn.aethli.lunar.benchmark;
+
+import cn.aethli.lunar.LunarDate;
+import cn.aethli.lunar.LunarDateCache;
+import cn.aethli.lunar.exception.LunarException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * gregorian to lunar conversion with canonical instance mode enabled
+ *
+ * @author selcarpa
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CachedConversionBenchmark {
+
+  @Param({"random", "sequential", "boundary"})
+  private String pattern;
+  private LocalDate[] gregorianDates;
+  private int index;
+
+  @Setup
+  public void setup() throws LunarException {
+    gregorianDates = BenchmarkDates.gregorianDates(pattern);
+    LunarDateCache.preload();
+  }
+
+  @TearDown
+  public void tearDown() {
+    LunarDateCache.disable();
+  }
+
+  @Benchmark
+  public LunarDate ofGregorianDay() throws LunarException {
+    index = (index + 1) & BenchmarkDates.MASK;
+    return LunarDate.ofDay(gregorianDates[index]);
+  }
+}
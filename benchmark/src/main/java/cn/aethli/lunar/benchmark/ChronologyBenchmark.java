@@ -0,0 +1,70 @@
+package cn.aethli.lunar.benchmark;
+
+import cn.aethli.lunar.LunarChronoLocalDate;
+import cn.aethli.lunar.exception.LunarException;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * java.time arithmetic of LunarChronoLocalDate
+ *
+ * @author selcarpa
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChronologyBenchmark {
+
+  private long[] epochDays;
+  private LunarChronoLocalDate[] lunarDates;
+  private int index;
+
+  @Setup
+  public void setup() throws LunarException {
+    epochDays = BenchmarkDates.epochDays("random");
+    lunarDates = new LunarChronoLocalDate[BenchmarkDates.SIZE];
+    for (int i = 0; i < BenchmarkDates.SIZE; i++) {
+      // keep one year of headroom for plus and until
+      lunarDates[i] = LunarChronoLocalDate
+          .ofEpochDay(Math.min(epochDays[i], BenchmarkDates.MAX_EPOCH_DAY - 400));
+    }
+  }
+
+  @Benchmark
+  public LunarChronoLocalDate ofEpochDay() {
+    index = (index + 1) & BenchmarkDates.MASK;
+    return LunarChronoLocalDate.ofEpochDay(epochDays[index]);
+  }
+
+  @Benchmark
+  public LunarChronoLocalDate sameDayNextYear() {
+    index = (index + 1) & BenchmarkDates.MASK;
+    return lunarDates[index].plus(1, ChronoUnit.YEARS);
+  }
+
+  @Benchmark
+  public LunarChronoLocalDate plusMonths() {
+    index = (index + 1) & BenchmarkDates.MASK;
+    return lunarDates[index].plus(7, ChronoUnit.MONTHS);
+  }
+
+  @Benchmark
+  public long monthsUntil() {
+    index = (index + 1) & BenchmarkDates.MASK;
+    return lunarDates[index].until(lunarDates[(index + 1) & BenchmarkDates.MASK],
+        ChronoUnit.MONTHS);
+  }
+}
@@ -0,0 +1,73 @@
+package cn.aethli.lunar.benchmark;
+
+import cn.aethli.lunar.LunarDate;
+import cn.aethli.lunar.LunarDate.LeapType;
+import cn.aethli.lunar.exception.LunarException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * single date conversion in both directions
+ *
+ * @author selcarpa
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConversionBenchmark {
+
+  @Param({"random", "sequential", "boundary"})
+  private String pattern;
+  private LocalDate[] gregorianDates;
+  private long[] epochDays;
+  private int[] lunarDates;
+  private int index;
+
+  @Setup
+  public void setup() throws LunarException {
+    gregorianDates = BenchmarkDates.gregorianDates(pattern);
+    epochDays = BenchmarkDates.epochDays(pattern);
+    lunarDates = BenchmarkDates.lunarDates(pattern);
+  }
+
+  @Benchmark
+  public LunarDate ofGregorianDay() throws LunarException {
+    index = (index + 1) & BenchmarkDates.MASK;
+    return LunarDate.ofDay(gregorianDates[index]);
+  }
+
+  @Benchmark
+  public LunarDate ofLunarDay() throws LunarException {
+    index = (index + 1) & BenchmarkDates.MASK;
+    int packed = lunarDates[index];
+    return LunarDate.ofDay(LunarDate.packedYear(packed), LunarDate.packedMonth(packed),
+        LunarDate.packedDay(packed),
+        LunarDate.isPackedLeap(packed) ? LeapType.LEAP_1 : LeapType.NOT_LEAP);
+  }
+
+  @Benchmark
+  public int toLunarPacked() throws LunarException {
+    index = (index + 1) & BenchmarkDates.MASK;
+    return LunarDate.toLunarPacked(epochDays[index]);
+  }
+
+  @Benchmark
+  public long fromLunarPacked() throws LunarException {
+    index = (index + 1) & BenchmarkDates.MASK;
+    return LunarDate.fromLunarPacked(lunarDates[index]);
+  }
+}
@@ -0,0 +1,97 @@
+package cn.aethli.lunar.benchmark;
+
+import cn.aethli.lunar.LunarDate;
+import cn.aethli.lunar.LunarDate.LeapType;
+import cn.aethli.lunar.exception.LunarException;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * month and year expansion
+ *
+ * @author selcarpa
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExpansionBenchmark {
+
+  private static final int MAX_DAY_IN_YEAR = 366;
+
+  private LocalDate[] gregorianMonths;
+  private int[] lunarYears;
+  private int[] lunarMonths;
+  private final int[] packed = new int[MAX_DAY_IN_YEAR];
+  private int index;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(BenchmarkDates.SIZE);
+    gregorianMonths = new LocalDate[BenchmarkDates.SIZE];
+    lunarYears = new int[BenchmarkDates.SIZE];
+    lunarMonths = new int[BenchmarkDates.SIZE];
+    for (int i = 0; i < BenchmarkDates.SIZE; i++) {
+      gregorianMonths[i] = LocalDate.of(1902 + random.nextInt(199), 1 + random.nextInt(12), 1);
+      lunarYears[i] = 1901 + random.nextInt(200);
+      lunarMonths[i] = 1 + random.nextInt(12);
+    }
+  }
+
+  @Benchmark
+  public LunarDate[] ofGregorianMonth() throws LunarException {
+    index = (index + 1) & BenchmarkDates.MASK;
+    return LunarDate.ofMonth(gregorianMonths[index]);
+  }
+
+  @Benchmark
+  public LunarDate[] ofLunarMonth() throws LunarException {
+    index = (index + 1) & BenchmarkDates.MASK;
+    return LunarDate.ofMonth(lunarYears[index], lunarMonths[index], LeapType.NOT_LEAP);
+  }
+
+  @Benchmark
+  public void ofGregorianYear(Blackhole blackhole) throws LunarException {
+    index = (index + 1) & BenchmarkDates.MASK;
+    LocalDate firstMonth = gregorianMonths[index].withMonth(1);
+    for (int i = 0; i < 12; i++) {
+      blackhole.consume(LunarDate.ofMonth(firstMonth.plusMonths(i)));
+    }
+  }
+
+  @Benchmark
+  public void ofLunarYear(Blackhole blackhole) throws LunarException {
+    index = (index + 1) & BenchmarkDates.MASK;
+    for (int i = 1; i <= 12; i++) {
+      blackhole.consume(LunarDate.ofMonth(lunarYears[index], i, LeapType.NOT_LEAP));
+    }
+  }
+
+  @Benchmark
+  public void rangeOfGregorianYear(Blackhole blackhole) throws LunarException {
+    index = (index + 1) & BenchmarkDates.MASK;
+    LocalDate firstDay = gregorianMonths[index].withMonth(1);
+    LunarDate.range(firstDay, firstDay.plusYears(1)).forEach(blackhole::consume);
+  }
+
+  @Benchmark
+  public int rangePackedOfGregorianYear() throws LunarException {
+    index = (index + 1) & BenchmarkDates.MASK;
+    LocalDate firstDay = gregorianMonths[index].withMonth(1);
+    return LunarDate.rangePacked(firstDay, firstDay.plusYears(1), packed, 0);
+  }
+}
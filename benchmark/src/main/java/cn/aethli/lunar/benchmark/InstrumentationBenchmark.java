@@ -0,0 +1,66 @@
+package cn.aethli.lunar.benchmark;
+
+import cn.aethli.lunar.LunarDate;
+import cn.aethli.lunar.LunarInstrumentation;
+import cn.aethli.lunar.LunarStats;
+import cn.aethli.lunar.exception.LunarException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * conversion cost with instrumentation disabled, and with LunarStats installed
+ *
+ * @author selcarpa
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InstrumentationBenchmark {
+
+  @Param({"false", "true"})
+  private boolean installed;
+  private LocalDate[] gregorianDates;
+  private long[] epochDays;
+  private int index;
+
+  @Setup
+  public void setup() throws LunarException {
+    gregorianDates = BenchmarkDates.gregorianDates("random");
+    epochDays = BenchmarkDates.epochDays("random");
+    if (installed) {
+      LunarInstrumentation.install(new LunarStats());
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    LunarInstrumentation.uninstall();
+  }
+
+  @Benchmark
+  public LunarDate ofGregorianDay() throws LunarException {
+    index = (index + 1) & BenchmarkDates.MASK;
+    return LunarDate.ofDay(gregorianDates[index]);
+  }
+
+  @Benchmark
+  public int toLunarPacked() throws LunarException {
+    index = (index + 1) & BenchmarkDates.MASK;
+    return LunarDate.toLunarPacked(epochDays[index]);
+  }
+}
@@ -0,0 +1,57 @@
+package cn.aethli.lunar.benchmark;
+
+import cn.aethli.lunar.LunarDate;
+import cn.aethli.lunar.exception.LunarException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * conversion throughput with all available processors converting at the same time
+ *
+ * @author selcarpa
+ **/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Thread)
+public class ParallelConversionBenchmark {
+
+  @Param({"random", "sequential", "boundary"})
+  private String pattern;
+  private LocalDate[] gregorianDates;
+  private long[] epochDays;
+  private int index;
+
+  @Setup
+  public void setup() throws LunarException {
+    gregorianDates = BenchmarkDates.gregorianDates(pattern);
+    epochDays = BenchmarkDates.epochDays(pattern);
+  }
+
+  @Benchmark
+  public LunarDate ofGregorianDay() throws LunarException {
+    index = (index + 1) & BenchmarkDates.MASK;
+    return LunarDate.ofDay(gregorianDates[index]);
+  }
+
+  @Benchmark
+  public int toLunarPacked() throws LunarException {
+    index = (index + 1) & BenchmarkDates.MASK;
+    return LunarDate.toLunarPacked(epochDays[index]);
+  }
+}
@@ -0,0 +1,63 @@
+package cn.aethli.lunar.benchmark;
+
+import cn.aethli.lunar.LunarDate;
+import cn.aethli.lunar.LunarFormatter;
+import cn.aethli.lunar.LunarParser;
+import cn.aethli.lunar.exception.LunarException;
+import java.text.ParsePosition;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * parsing of lunar date text, one line per date
+ *
+ * @author selcarpa
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParseBenchmark {
+
+  @Param({"yyyy-MML-dd", "N年MMMddd"})
+  private String pattern;
+  private String[] lines;
+  private final ParsePosition position = new ParsePosition(0);
+  private int index;
+
+  @Setup
+  public void setup() throws LunarException {
+    LunarFormatter formatter = LunarFormatter.ofPattern(pattern);
+    long[] epochDays = BenchmarkDates.epochDays("random");
+    lines = new String[BenchmarkDates.SIZE];
+    for (int i = 0; i < BenchmarkDates.SIZE; i++) {
+      lines[i] = formatter.format(LunarDate.ofDay(LocalDate.ofEpochDay(epochDays[i])));
+    }
+  }
+
+  @Benchmark
+  public int parsePacked() {
+    index = (index + 1) & BenchmarkDates.MASK;
+    position.setIndex(0);
+    return LunarParser.parsePacked(lines[index], position);
+  }
+
+  @Benchmark
+  public LunarDate parse() throws LunarException {
+    index = (index + 1) & BenchmarkDates.MASK;
+    return LunarParser.parse(lines[index]);
+  }
+}
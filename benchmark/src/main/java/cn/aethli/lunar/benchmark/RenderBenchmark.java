@@ -0,0 +1,74 @@
+package cn.aethli.lunar.benchmark;
+
+import cn.aethli.lunar.LunarDate;
+import cn.aethli.lunar.LunarFormatter;
+import cn.aethli.lunar.exception.LunarException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * name rendering of already converted dates
+ *
+ * @author selcarpa
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RenderBenchmark {
+
+  private static final LunarFormatter FORMATTER = LunarFormatter.ofPattern("农历yyyy年MMMddd");
+  private final StringBuilder builder = new StringBuilder(64);
+  private LunarDate[] lunarDates;
+  private int index;
+
+  @Setup
+  public void setup() throws LunarException {
+    long[] epochDays = BenchmarkDates.epochDays("random");
+    lunarDates = new LunarDate[BenchmarkDates.SIZE];
+    for (int i = 0; i < BenchmarkDates.SIZE; i++) {
+      lunarDates[i] = LunarDate.ofDay(LocalDate.ofEpochDay(epochDays[i]));
+    }
+  }
+
+  @Benchmark
+  public String toLunarString() {
+    index = (index + 1) & BenchmarkDates.MASK;
+    return lunarDates[index].toString();
+  }
+
+  @Benchmark
+  public void names(Blackhole blackhole) {
+    index = (index + 1) & BenchmarkDates.MASK;
+    LunarDate lunarDate = lunarDates[index];
+    blackhole.consume(lunarDate.getYearName());
+    blackhole.consume(lunarDate.getMonthName());
+    blackhole.consume(lunarDate.getDayName());
+  }
+
+  @Benchmark
+  public String format() {
+    index = (index + 1) & BenchmarkDates.MASK;
+    return FORMATTER.format(lunarDates[index]);
+  }
+
+  @Benchmark
+  public StringBuilder formatToBuilder() {
+    index = (index + 1) & BenchmarkDates.MASK;
+    builder.setLength(0);
+    return FORMATTER.formatTo(lunarDates[index], builder);
+  }
+}
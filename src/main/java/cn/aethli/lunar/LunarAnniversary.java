@@ -0,0 +1,158 @@
+package cn.aethli.lunar;
+
+import cn.aethli.lunar.exception.LunarException;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * <p>a recurring lunar date, such as a lunar birthday, once in every lunar year
+ * <p>a leap month anniversary falls in the leap month when the year has that leap month, otherwise
+ * in the regular month. A day missing in a 29 days month falls on the 29th
+ * <p>occurrences of the whole supported range are computed at creation into a sorted epoch day
+ * index, lookups are binary searches. Immutable and thread-safe
+ *
+ * @author selcarpa
+ **/
+public final class LunarAnniversary {
+
+  private final int month;
+  private final int day;
+  private final boolean leap;
+  /**
+   * epoch day of the occurrence in each lunar year
+   */
+  private final int[] epochDays = new int[LunarTable.YEAR_COUNT];
+
+  private LunarAnniversary(int month, int day, boolean leap) {
+    this.month = month;
+    this.day = day;
+    this.leap = leap;
+    for (int yearIndex = 0; yearIndex < LunarTable.YEAR_COUNT; yearIndex++) {
+      int monthIndex = LunarTable.monthIndexOf(yearIndex, month,
+          leap && LunarTable.LEAP_MONTH[yearIndex] == month);
+      epochDays[yearIndex] = LunarTable.YEAR_START_EPOCH_DAY[yearIndex]
+          + LunarTable.monthOffset(yearIndex, monthIndex)
+          + Math.min(day, LunarTable.monthLength(yearIndex, monthIndex)) - 1;
+    }
+  }
+
+  /**
+   * @param month lunar month, 1 to 12
+   * @param day   lunar day, 1 to 30
+   * @param leap  whether it is in the leap month
+   * @return anniversary
+   * @throws LunarException Exception with reason
+   */
+  public static LunarAnniversary of(int month, int day, boolean leap) throws LunarException {
+    if (month < 1 || month > 12 || day < 1 || day > 30) {
+      throw LunarException.stackless("out of Range");
+    }
+    return new LunarAnniversary(month, day, leap);
+  }
+
+  /**
+   * @param lunarDate the first occurrence, such as a lunar birthday
+   * @return anniversary of the date
+   */
+  public static LunarAnniversary of(LunarDate lunarDate) {
+    return new LunarAnniversary(lunarDate.getMonth(), lunarDate.getDay(),
+        lunarDate.getLeapType() == LunarDate.LeapType.LEAP_1);
+  }
+
+  public int getMonth() {
+    return month;
+  }
+
+  public int getDay() {
+    return day;
+  }
+
+  public boolean isLeap() {
+    return leap;
+  }
+
+  /**
+   * @param lunarYear lunar year
+   * @return gregorian date of the occurrence in the lunar year
+   * @throws LunarException Exception with reason
+   */
+  public LocalDate getDate(int lunarYear) throws LunarException {
+    if (lunarYear < LunarTable.MIN_LUNAR_YEAR || lunarYear > LunarTable.MAX_LUNAR_YEAR) {
+      throw LunarException.stackless("out of Range");
+    }
+    return LocalDate.ofEpochDay(epochDays[lunarYear - LunarTable.MIN_LUNAR_YEAR]);
+  }
+
+  /**
+   * @param date gregorian date
+   * @return whether the anniversary is on the date
+   */
+  public boolean isOn(LocalDate date) {
+    long epochDay = date.toEpochDay();
+    return epochDay >= LunarTable.MIN_EPOCH_DAY && epochDay <= LunarTable.MAX_EPOCH_DAY
+        && Arrays.binarySearch(epochDays, (int) epochDay) >= 0;
+  }
+
+  /**
+   * @param date  gregorian date
+   * @param count max count of occurrences
+   * @return dates of the next occurrences after the date, fewer than count at the end of
+   * supported range
+   */
+  public LocalDate[] next(LocalDate date, int count) {
+    if (count < 0) {
+      throw new IllegalArgumentException("negative count " + count);
+    }
+    int from = firstAfter(date.toEpochDay());
+    LocalDate[] dates = new LocalDate[Math.min(count, epochDays.length - from)];
+    for (int i = 0; i < dates.length; i++) {
+      dates[i] = LocalDate.ofEpochDay(epochDays[from + i]);
+    }
+    return dates;
+  }
+
+  /**
+   * @param date gregorian date
+   * @return date of the next occurrence after the date
+   * @throws LunarException Exception with reason, also if there is no occurrence in range
+   */
+  public LocalDate next(LocalDate date) throws LunarException {
+    int index = firstAfter(date.toEpochDay());
+    if (index == epochDays.length) {
+      throw LunarException.stackless("out of Range");
+    }
+    return LocalDate.ofEpochDay(epochDays[index]);
+  }
+
+  /**
+   * @param epochDay epoch day
+   * @return index of the first occurrence after the day
+   */
+  private int firstAfter(long epochDay) {
+    if (epochDay < LunarTable.MIN_EPOCH_DAY) {
+      return 0;
+    }
+    if (epochDay >= LunarTable.MAX_EPOCH_DAY) {
+      return epochDays.length;
+    }
+    int index = Arrays.binarySearch(epochDays, (int) epochDay);
+    return index >= 0 ? index + 1 : -index - 1;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof LunarAnniversary)) {
+      return false;
+    }
+    LunarAnniversary that = (LunarAnniversary) o;
+    return month == that.month && day == that.day && leap == that.leap;
+  }
+
+  @Override
+  public int hashCode() {
+    return (month << 6 | day) << 1 | (leap ? 1 : 0);
+  }
+}
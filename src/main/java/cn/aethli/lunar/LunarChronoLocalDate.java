@@ -0,0 +1,538 @@
+package cn.aethli.lunar;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.ChronoPeriod;
+import java.time.chrono.IsoEra;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.TemporalAmount;
+import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.time.temporal.ValueRange;
+
+/**
+ * <p>a date in {@link LunarChronology}, all arithmetic works on the lunar calendar tables without
+ * converting through {@link LocalDate}
+ * <p>MONTH_OF_YEAR is the ordinal of a month in the lunar year, the leap month counts as a month,
+ * so in a year with leap month 2, MONTH_OF_YEAR 3 is 闰二月. Use {@link #getMonth()} and
+ * {@link #isLeapMonth()} for the traditional month
+ * <p>plus(n, MONTHS) walks every month including leap months, plus(n, YEARS) keeps the traditional
+ * month and falls back to the non leap month when the target year has no such leap month, day of
+ * month is clamped to the length of target month
+ *
+ * @author selcarpa
+ **/
+public final class LunarChronoLocalDate implements ChronoLocalDate, Serializable {
+
+  private static final long serialVersionUID = 0x4c756e61724c44L;
+  private final int epochDay;
+  private final int yearIndex;
+  private final int monthIndex;
+  /**
+   * day of month, starts from 1
+   */
+  private final int day;
+
+  private LunarChronoLocalDate(int epochDay, int yearIndex, int monthIndex, int day) {
+    this.epochDay = epochDay;
+    this.yearIndex = yearIndex;
+    this.monthIndex = monthIndex;
+    this.day = day;
+  }
+
+  /**
+   * @param yearIndex  index of lunar year
+   * @param monthIndex month index, the same as DaysPerMonth
+   * @param day        day of month, must be valid
+   * @return lunar date
+   */
+  private static LunarChronoLocalDate ofIndex(int yearIndex, int monthIndex, int day) {
+    return new LunarChronoLocalDate(LunarTable.YEAR_START_EPOCH_DAY[yearIndex]
+        + LunarTable.monthOffset(yearIndex, monthIndex) + day - 1, yearIndex, monthIndex, day);
+  }
+
+  /**
+   * same as {@link #ofIndex(int, int, int)} but day is clamped to the length of month
+   */
+  private static LunarChronoLocalDate ofIndexClamped(int yearIndex, int monthIndex, int day) {
+    return ofIndex(yearIndex, monthIndex,
+        Math.min(day, LunarTable.monthLength(yearIndex, monthIndex)));
+  }
+
+  private static int checkYear(long year) {
+    return LunarChronology.INSTANCE.range(ChronoField.YEAR)
+        .checkValidIntValue(year, ChronoField.YEAR) - LunarTable.MIN_LUNAR_YEAR;
+  }
+
+  /**
+   * @param year        lunar year
+   * @param monthOfYear ordinal of month in lunar year, 1 to 13
+   * @param dayOfMonth  lunar day, 1 to 30
+   * @return lunar date
+   * @throws DateTimeException if the date is invalid or out of supported range
+   */
+  public static LunarChronoLocalDate of(int year, int monthOfYear, int dayOfMonth) {
+    int yearIndex = checkYear(year);
+    if (monthOfYear < 1 || monthOfYear > LunarTable.monthCount(yearIndex)) {
+      throw new DateTimeException("Invalid month of year " + monthOfYear + " in " + year);
+    }
+    checkDay(yearIndex, monthOfYear - 1, dayOfMonth);
+    return ofIndex(yearIndex, monthOfYear - 1, dayOfMonth);
+  }
+
+  /**
+   * @param year       lunar year
+   * @param month      traditional lunar month, 1 to 12
+   * @param leapMonth  whether it is the leap month
+   * @param dayOfMonth lunar day, 1 to 30
+   * @return lunar date
+   * @throws DateTimeException if the date is invalid or out of supported range
+   */
+  public static LunarChronoLocalDate of(int year, int month, boolean leapMonth, int dayOfMonth) {
+    int yearIndex = checkYear(year);
+    if (month < 1 || month > 12) {
+      throw new DateTimeException("Invalid month " + month);
+    }
+    if (leapMonth && LunarTable.LEAP_MONTH[yearIndex] != month) {
+      throw new DateTimeException("Not leap month " + month + " in " + year);
+    }
+    int monthIndex = LunarTable.monthIndexOf(yearIndex, month, leapMonth);
+    checkDay(yearIndex, monthIndex, dayOfMonth);
+    return ofIndex(yearIndex, monthIndex, dayOfMonth);
+  }
+
+  private static void checkDay(int yearIndex, int monthIndex, int dayOfMonth) {
+    if (dayOfMonth < 1 || dayOfMonth > LunarTable.monthLength(yearIndex, monthIndex)) {
+      throw new DateTimeException("Invalid day of month " + dayOfMonth);
+    }
+  }
+
+  /**
+   * @param year      lunar year
+   * @param dayOfYear day of lunar year, starts from 1
+   * @return lunar date
+   * @throws DateTimeException if the date is invalid or out of supported range
+   */
+  public static LunarChronoLocalDate ofYearDay(int year, int dayOfYear) {
+    int yearIndex = checkYear(year);
+    if (dayOfYear < 1 || dayOfYear > LunarTable.yearLength(yearIndex)) {
+      throw new DateTimeException("Invalid day of year " + dayOfYear + " in " + year);
+    }
+    return ofEpochDay(LunarTable.YEAR_START_EPOCH_DAY[yearIndex] + dayOfYear - 1L);
+  }
+
+  /**
+   * @param epochDay gregorian epoch day
+   * @return lunar date
+   * @throws DateTimeException if out of supported range
+   */
+  public static LunarChronoLocalDate ofEpochDay(long epochDay) {
+    int day = LunarChronology.INSTANCE.range(ChronoField.EPOCH_DAY)
+        .checkValidIntValue(epochDay, ChronoField.EPOCH_DAY);
+    int yearIndex = LunarTable.yearIndexOf(day);
+    int dayOfYear = day - LunarTable.YEAR_START_EPOCH_DAY[yearIndex];
+    int monthIndex = LunarTable.monthIndexOf(yearIndex, dayOfYear);
+    return new LunarChronoLocalDate(day, yearIndex, monthIndex,
+        dayOfYear - LunarTable.monthOffset(yearIndex, monthIndex) + 1);
+  }
+
+  /**
+   * @param temporal any date, such as {@link LocalDate}
+   * @return lunar date of the same day
+   * @throws DateTimeException if out of supported range
+   */
+  public static LunarChronoLocalDate from(TemporalAccessor temporal) {
+    if (temporal instanceof LunarChronoLocalDate) {
+      return (LunarChronoLocalDate) temporal;
+    }
+    return ofEpochDay(temporal.getLong(ChronoField.EPOCH_DAY));
+  }
+
+  public static LunarChronoLocalDate now() {
+    return now(Clock.systemDefaultZone());
+  }
+
+  public static LunarChronoLocalDate now(Clock clock) {
+    return ofEpochDay(LocalDate.now(clock).toEpochDay());
+  }
+
+  public int getYear() {
+    return LunarTable.MIN_LUNAR_YEAR + yearIndex;
+  }
+
+  /**
+   * @return traditional lunar month, 1 to 12
+   */
+  public int getMonth() {
+    return LunarTable.monthOf(yearIndex, monthIndex);
+  }
+
+  public boolean isLeapMonth() {
+    return LunarTable.isLeapMonth(yearIndex, monthIndex);
+  }
+
+  /**
+   * @return ordinal of month in lunar year, 1 to 13
+   */
+  public int getMonthOfYear() {
+    return monthIndex + 1;
+  }
+
+  public int getDayOfMonth() {
+    return day;
+  }
+
+  public int getDayOfYear() {
+    return epochDay - LunarTable.YEAR_START_EPOCH_DAY[yearIndex] + 1;
+  }
+
+  @Override
+  public LunarChronology getChronology() {
+    return LunarChronology.INSTANCE;
+  }
+
+  @Override
+  public IsoEra getEra() {
+    return IsoEra.CE;
+  }
+
+  @Override
+  public int lengthOfMonth() {
+    return LunarTable.monthLength(yearIndex, monthIndex);
+  }
+
+  @Override
+  public int lengthOfYear() {
+    return LunarTable.yearLength(yearIndex);
+  }
+
+  @Override
+  public boolean isSupported(TemporalField field) {
+    if (field instanceof ChronoField) {
+      return field.isDateBased() && field != ChronoField.PROLEPTIC_MONTH;
+    }
+    return field != null && field.isSupportedBy(this);
+  }
+
+  @Override
+  public ValueRange range(TemporalField field) {
+    if (field instanceof ChronoField) {
+      if (!isSupported(field)) {
+        throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+      }
+      switch ((ChronoField) field) {
+        case DAY_OF_MONTH:
+          return ValueRange.of(1, lengthOfMonth());
+        case DAY_OF_YEAR:
+          return ValueRange.of(1, lengthOfYear());
+        case ALIGNED_WEEK_OF_YEAR:
+          return ValueRange.of(1, (lengthOfYear() + 6) / 7);
+        case MONTH_OF_YEAR:
+          return ValueRange.of(1, LunarTable.monthCount(yearIndex));
+        default:
+          return getChronology().range((ChronoField) field);
+      }
+    }
+    return field.rangeRefinedBy(this);
+  }
+
+  @Override
+  public long getLong(TemporalField field) {
+    if (field instanceof ChronoField) {
+      switch ((ChronoField) field) {
+        case DAY_OF_WEEK:
+          return Math.floorMod(epochDay + 3, 7) + 1;
+        case ALIGNED_DAY_OF_WEEK_IN_MONTH:
+          return (day - 1) % 7 + 1;
+        case ALIGNED_DAY_OF_WEEK_IN_YEAR:
+          return (getDayOfYear() - 1) % 7 + 1;
+        case DAY_OF_MONTH:
+          return day;
+        case DAY_OF_YEAR:
+          return getDayOfYear();
+        case EPOCH_DAY:
+          return epochDay;
+        case ALIGNED_WEEK_OF_MONTH:
+          return (day - 1) / 7 + 1;
+        case ALIGNED_WEEK_OF_YEAR:
+          return (getDayOfYear() - 1) / 7 + 1;
+        case MONTH_OF_YEAR:
+          return monthIndex + 1;
+        case YEAR_OF_ERA:
+        case YEAR:
+          return getYear();
+        case ERA:
+          return IsoEra.CE.getValue();
+        default:
+          throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+      }
+    }
+    return field.getFrom(this);
+  }
+
+  @Override
+  public long toEpochDay() {
+    return epochDay;
+  }
+
+  @Override
+  public LunarChronoLocalDate with(TemporalAdjuster adjuster) {
+    return (LunarChronoLocalDate) ChronoLocalDate.super.with(adjuster);
+  }
+
+  @Override
+  public LunarChronoLocalDate with(TemporalField field, long newValue) {
+    if (!(field instanceof ChronoField)) {
+      return (LunarChronoLocalDate) ChronoLocalDate.super.with(field, newValue);
+    }
+    ChronoField chronoField = (ChronoField) field;
+    int value = range(chronoField).checkValidIntValue(newValue, chronoField);
+    switch (chronoField) {
+      case DAY_OF_WEEK:
+      case ALIGNED_DAY_OF_WEEK_IN_MONTH:
+      case ALIGNED_DAY_OF_WEEK_IN_YEAR:
+        return plusDays(value - getLong(chronoField));
+      case ALIGNED_WEEK_OF_MONTH:
+      case ALIGNED_WEEK_OF_YEAR:
+        return plusDays((value - getLong(chronoField)) * 7);
+      case DAY_OF_MONTH:
+        return ofIndex(yearIndex, monthIndex, value);
+      case DAY_OF_YEAR:
+      case EPOCH_DAY:
+        return plusDays(value - getLong(chronoField));
+      case MONTH_OF_YEAR:
+        return ofIndexClamped(yearIndex, value - 1, day);
+      case YEAR_OF_ERA:
+      case YEAR:
+        return withYearIndex(value - LunarTable.MIN_LUNAR_YEAR);
+      case ERA:
+        return this;
+      default:
+        throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+    }
+  }
+
+  /**
+   * move to another year with the same traditional month, see class comment
+   */
+  private LunarChronoLocalDate withYearIndex(int targetYearIndex) {
+    int month = getMonth();
+    boolean leap = isLeapMonth() && LunarTable.LEAP_MONTH[targetYearIndex] == month;
+    return ofIndexClamped(targetYearIndex, LunarTable.monthIndexOf(targetYearIndex, month, leap),
+        day);
+  }
+
+  @Override
+  public LunarChronoLocalDate plus(TemporalAmount amount) {
+    return (LunarChronoLocalDate) ChronoLocalDate.super.plus(amount);
+  }
+
+  @Override
+  public LunarChronoLocalDate plus(long amountToAdd, TemporalUnit unit) {
+    if (!(unit instanceof ChronoUnit)) {
+      return (LunarChronoLocalDate) ChronoLocalDate.super.plus(amountToAdd, unit);
+    }
+    switch ((ChronoUnit) unit) {
+      case DAYS:
+        return plusDays(amountToAdd);
+      case WEEKS:
+        return plusDays(Math.multiplyExact(amountToAdd, 7));
+      case MONTHS:
+        return plusMonths(amountToAdd);
+      case YEARS:
+        return plusYears(amountToAdd);
+      case DECADES:
+        return plusYears(Math.multiplyExact(amountToAdd, 10));
+      case CENTURIES:
+        return plusYears(Math.multiplyExact(amountToAdd, 100));
+      case MILLENNIA:
+        return plusYears(Math.multiplyExact(amountToAdd, 1000));
+      default:
+        throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+    }
+  }
+
+  @Override
+  public LunarChronoLocalDate minus(TemporalAmount amount) {
+    return (LunarChronoLocalDate) ChronoLocalDate.super.minus(amount);
+  }
+
+  @Override
+  public LunarChronoLocalDate minus(long amountToSubtract, TemporalUnit unit) {
+    return amountToSubtract == Long.MIN_VALUE ? plus(Long.MAX_VALUE, unit).plus(1, unit)
+        : plus(-amountToSubtract, unit);
+  }
+
+  public LunarChronoLocalDate plusDays(long days) {
+    return days == 0 ? this : ofEpochDay(Math.addExact(epochDay, days));
+  }
+
+  /**
+   * @param months months to add, leap months are counted
+   * @return lunar date, day of month is clamped
+   */
+  public LunarChronoLocalDate plusMonths(long months) {
+    if (months == 0) {
+      return this;
+    }
+    long target = Math.addExact(monthsFromMin(), months);
+    int monthsInRange = LunarTable.YEAR_MONTH_START[LunarTable.YEAR_MONTH_START.length - 1];
+    if (target < 0 || target >= monthsInRange) {
+      throw new DateTimeException("out of Range");
+    }
+    int targetYearIndex = LunarTable.yearIndexOfMonth((int) target);
+    return ofIndexClamped(targetYearIndex,
+        (int) target - LunarTable.YEAR_MONTH_START[targetYearIndex], day);
+  }
+
+  /**
+   * @param years years to add
+   * @return lunar date with the same traditional month, day of month is clamped
+   */
+  public LunarChronoLocalDate plusYears(long years) {
+    if (years == 0) {
+      return this;
+    }
+    return withYearIndex(checkYear(Math.addExact(getYear(), years)));
+  }
+
+  private int monthsFromMin() {
+    return LunarTable.YEAR_MONTH_START[yearIndex] + monthIndex;
+  }
+
+  @Override
+  public long until(Temporal endExclusive, TemporalUnit unit) {
+    LunarChronoLocalDate end = getChronology().date(endExclusive);
+    if (!(unit instanceof ChronoUnit)) {
+      return unit.between(this, end);
+    }
+    switch ((ChronoUnit) unit) {
+      case DAYS:
+        return end.epochDay - epochDay;
+      case WEEKS:
+        return (end.epochDay - epochDay) / 7;
+      case MONTHS:
+        return monthsUntil(end);
+      case YEARS:
+        return yearsUntil(end);
+      case DECADES:
+        return yearsUntil(end) / 10;
+      case CENTURIES:
+        return yearsUntil(end) / 100;
+      case MILLENNIA:
+        return yearsUntil(end) / 1000;
+      case ERAS:
+        return 0;
+      default:
+        throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+    }
+  }
+
+  private long monthsUntil(LunarChronoLocalDate end) {
+    long months = end.monthsFromMin() - monthsFromMin();
+    if (months > 0 && end.day < day) {
+      months--;
+    } else if (months < 0 && end.day > day) {
+      months++;
+    }
+    return months;
+  }
+
+  private long yearsUntil(LunarChronoLocalDate end) {
+    long years = end.yearIndex - yearIndex;
+    int sameMonthDay = withYearIndex(end.yearIndex).epochDay;
+    if (years > 0 && sameMonthDay > end.epochDay) {
+      years--;
+    } else if (years < 0 && sameMonthDay < end.epochDay) {
+      years++;
+    }
+    return years;
+  }
+
+  @Override
+  public ChronoPeriod until(ChronoLocalDate endDateExclusive) {
+    LunarChronoLocalDate end = getChronology().date(endDateExclusive);
+    long years = yearsUntil(end);
+    LunarChronoLocalDate afterYears = plusYears(years);
+    long months = afterYears.monthsUntil(end);
+    LunarChronoLocalDate afterMonths = afterYears.plusMonths(months);
+    return getChronology().period(Math.toIntExact(years), Math.toIntExact(months),
+        end.epochDay - afterMonths.epochDay);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof LunarChronoLocalDate)) {
+      return false;
+    }
+    return epochDay == ((LunarChronoLocalDate) o).epochDay;
+  }
+
+  @Override
+  public int hashCode() {
+    return getChronology().getId().hashCode() ^ epochDay;
+  }
+
+  /**
+   * @return such as Lunar 2023-02L-15 for the 15th day of 闰二月
+   */
+  @Override
+  public String toString() {
+    int month = getMonth();
+    StringBuilder sb = new StringBuilder(18).append(getChronology().getId()).append(' ')
+        .append(getYear()).append(month < 10 ? "-0" : "-").append(month);
+    if (isLeapMonth()) {
+      sb.append('L');
+    }
+    return sb.append(day < 10 ? "-0" : "-").append(day).toString();
+  }
+
+  /**
+   * serialize as {@link SerializationProxy}, which only writes the epoch day
+   *
+   * @return serialization proxy
+   */
+  private Object writeReplace() {
+    return new SerializationProxy(epochDay);
+  }
+
+  private void readObject(ObjectInputStream in) throws InvalidObjectException {
+    throw new InvalidObjectException("Deserialization via serialization proxy");
+  }
+
+  /**
+   * serialized form of LunarChronoLocalDate, 4 bytes of epoch day per instance
+   */
+  private static final class SerializationProxy implements Serializable {
+
+    private static final long serialVersionUID = 0x4c756e61724c4450L;
+    private final int epochDay;
+
+    private SerializationProxy(int epochDay) {
+      this.epochDay = epochDay;
+    }
+
+    private Object readResolve() throws InvalidObjectException {
+      try {
+        return ofEpochDay(epochDay);
+      } catch (DateTimeException e) {
+        InvalidObjectException exception = new InvalidObjectException(e.getMessage());
+        exception.initCause(e);
+        throw exception;
+      }
+    }
+  }
+}
@@ -0,0 +1,146 @@
+package cn.aethli.lunar;
+
+import java.io.Serializable;
+import java.time.DateTimeException;
+import java.time.chrono.AbstractChronology;
+import java.time.chrono.Era;
+import java.time.chrono.IsoEra;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.ValueRange;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>chinese lunar calendar system for java.time
+ * <p>years are numbered the same as the gregorian year of chinese new year, the only era is
+ * {@link IsoEra#CE}. MONTH_OF_YEAR is the ordinal of a month in the lunar year, a year with a
+ * leap month has 13 months, see {@link LunarChronoLocalDate}. PROLEPTIC_MONTH is not supported
+ * because months per year are not fixed
+ * <p>Calendar support range is the same as {@link LunarDate}
+ * <p>a singleton, use {@link #INSTANCE}, it is not registered for {@link
+ * java.time.chrono.Chronology#of(String)} because a class path service provider is always a new
+ * instance
+ *
+ * @author selcarpa
+ **/
+public final class LunarChronology extends AbstractChronology implements Serializable {
+
+  public static final LunarChronology INSTANCE = new LunarChronology();
+  private static final long serialVersionUID = 0x4c756e6172L;
+
+  private LunarChronology() {
+  }
+
+  /**
+   * keep the singleton after deserialization
+   *
+   * @return {@link #INSTANCE}
+   */
+  private Object readResolve() {
+    return INSTANCE;
+  }
+
+  @Override
+  public String getId() {
+    return "Lunar";
+  }
+
+  @Override
+  public String getCalendarType() {
+    return "chinese";
+  }
+
+  /**
+   * @param prolepticYear lunar year
+   * @param month         ordinal of month in lunar year, 1 to 13
+   * @param dayOfMonth    lunar day, 1 to 30
+   * @return lunar date
+   */
+  @Override
+  public LunarChronoLocalDate date(int prolepticYear, int month, int dayOfMonth) {
+    return LunarChronoLocalDate.of(prolepticYear, month, dayOfMonth);
+  }
+
+  @Override
+  public LunarChronoLocalDate date(Era era, int yearOfEra, int month, int dayOfMonth) {
+    return date(prolepticYear(era, yearOfEra), month, dayOfMonth);
+  }
+
+  @Override
+  public LunarChronoLocalDate dateYearDay(int prolepticYear, int dayOfYear) {
+    return LunarChronoLocalDate.ofYearDay(prolepticYear, dayOfYear);
+  }
+
+  @Override
+  public LunarChronoLocalDate dateYearDay(Era era, int yearOfEra, int dayOfYear) {
+    return dateYearDay(prolepticYear(era, yearOfEra), dayOfYear);
+  }
+
+  @Override
+  public LunarChronoLocalDate dateEpochDay(long epochDay) {
+    return LunarChronoLocalDate.ofEpochDay(epochDay);
+  }
+
+  @Override
+  public LunarChronoLocalDate date(TemporalAccessor temporal) {
+    return LunarChronoLocalDate.from(temporal);
+  }
+
+  /**
+   * @param prolepticYear lunar year
+   * @return whether the lunar year has a leap month, false for unsupported years
+   */
+  @Override
+  public boolean isLeapYear(long prolepticYear) {
+    return prolepticYear >= LunarTable.MIN_LUNAR_YEAR && prolepticYear <= LunarTable.MAX_LUNAR_YEAR
+        && LunarTable.LEAP_MONTH[(int) prolepticYear - LunarTable.MIN_LUNAR_YEAR] != 0;
+  }
+
+  @Override
+  public int prolepticYear(Era era, int yearOfEra) {
+    if (era != IsoEra.CE) {
+      throw new ClassCastException("Era must be IsoEra.CE");
+    }
+    return yearOfEra;
+  }
+
+  @Override
+  public Era eraOf(int eraValue) {
+    if (eraValue != IsoEra.CE.getValue()) {
+      throw new DateTimeException("Invalid era: " + eraValue);
+    }
+    return IsoEra.CE;
+  }
+
+  @Override
+  public List<Era> eras() {
+    return Collections.singletonList(IsoEra.CE);
+  }
+
+  @Override
+  public ValueRange range(ChronoField field) {
+    switch (field) {
+      case DAY_OF_MONTH:
+        return ValueRange.of(1, 29, 30);
+      case DAY_OF_YEAR:
+        return ValueRange.of(1, LunarTable.MIN_YEAR_LENGTH, LunarTable.MAX_YEAR_LENGTH);
+      case ALIGNED_WEEK_OF_MONTH:
+        return ValueRange.of(1, 5);
+      case ALIGNED_WEEK_OF_YEAR:
+        return ValueRange.of(1, (LunarTable.MIN_YEAR_LENGTH + 6) / 7,
+            (LunarTable.MAX_YEAR_LENGTH + 6) / 7);
+      case MONTH_OF_YEAR:
+        return ValueRange.of(1, 12, 13);
+      case YEAR_OF_ERA:
+      case YEAR:
+        return ValueRange.of(LunarTable.MIN_LUNAR_YEAR, LunarTable.MAX_LUNAR_YEAR);
+      case ERA:
+        return ValueRange.of(IsoEra.CE.getValue(), IsoEra.CE.getValue());
+      case EPOCH_DAY:
+        return ValueRange.of(LunarTable.MIN_EPOCH_DAY, LunarTable.MAX_EPOCH_DAY);
+      default:
+        return field.range();
+    }
+  }
+}
@@ -0,0 +1,186 @@
+package cn.aethli.lunar;
+
+import java.nio.LongBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>bulk conversion of gregorian epoch day columns, for columnar data
+ * <p>each row is a single lookup in a table of packed lunar dates of every supported day, the
+ * table is built on first use. Inputs longer than {@link #SEQUENTIAL_THRESHOLD} are split and
+ * converted in the common {@link ForkJoinPool}
+ * <p>out of range rows do not throw: they are {@link LunarDate#INVALID_PACKED} in packed output,
+ * and 0 in every column of column output
+ *
+ * @author selcarpa
+ **/
+public final class LunarColumns {
+
+  /**
+   * rows converted by one task without splitting
+   */
+  public static final int SEQUENTIAL_THRESHOLD = 1 << 16;
+
+  private LunarColumns() {
+  }
+
+  /**
+   * @param epochDays gregorian epoch days
+   * @param packed    destination of packed lunar dates, at least as long as epochDays
+   * @throws IndexOutOfBoundsException if a destination is shorter than the input
+   */
+  public static void toLunarPacked(long[] epochDays, int[] packed) {
+    checkLength(epochDays.length, packed.length);
+    run(epochDays.length, (from, to) -> {
+      for (int i = from; i < to; i++) {
+        packed[i] = lookup(epochDays[i]);
+      }
+    });
+  }
+
+  /**
+   * @param epochDays gregorian epoch days from position to limit, position is not changed
+   * @param packed    destination of packed lunar dates, at least as long as remaining epochDays
+   * @throws IndexOutOfBoundsException if a destination is shorter than the input
+   */
+  public static void toLunarPacked(LongBuffer epochDays, int[] packed) {
+    int offset = epochDays.position();
+    checkLength(epochDays.remaining(), packed.length);
+    run(epochDays.remaining(), (from, to) -> {
+      for (int i = from; i < to; i++) {
+        packed[i] = lookup(epochDays.get(offset + i));
+      }
+    });
+  }
+
+  /**
+   * @param epochDays gregorian epoch days
+   * @param years     destination of lunar years
+   * @param months    destination of lunar months, 1 to 12
+   * @param days      destination of lunar days, 1 to 30
+   * @param leaps     destination of leap flags, 1 for leap month
+   * @throws IndexOutOfBoundsException if a destination is shorter than the input
+   */
+  public static void toLunarColumns(long[] epochDays, int[] years, byte[] months, byte[] days,
+      byte[] leaps) {
+    checkColumns(epochDays.length, years, months, days, leaps);
+    run(epochDays.length, (from, to) -> {
+      for (int i = from; i < to; i++) {
+        unpack(lookup(epochDays[i]), i, years, months, days, leaps);
+      }
+    });
+  }
+
+  /**
+   * @param epochDays gregorian epoch days from position to limit, position is not changed
+   * @param years     destination of lunar years
+   * @param months    destination of lunar months, 1 to 12
+   * @param days      destination of lunar days, 1 to 30
+   * @param leaps     destination of leap flags, 1 for leap month
+   * @throws IndexOutOfBoundsException if a destination is shorter than the input
+   */
+  public static void toLunarColumns(LongBuffer epochDays, int[] years, byte[] months,
+      byte[] days, byte[] leaps) {
+    int offset = epochDays.position();
+    checkColumns(epochDays.remaining(), years, months, days, leaps);
+    run(epochDays.remaining(), (from, to) -> {
+      for (int i = from; i < to; i++) {
+        unpack(lookup(epochDays.get(offset + i)), i, years, months, days, leaps);
+      }
+    });
+  }
+
+  /**
+   * @param epochDay gregorian epoch day
+   * @return packed lunar date, or {@link LunarDate#INVALID_PACKED} if out of range
+   */
+  private static int lookup(long epochDay) {
+    long index = epochDay - LunarTable.MIN_EPOCH_DAY;
+    return index >= 0 && index < Table.DAY_PACKED.length ? Table.DAY_PACKED[(int) index]
+        : LunarDate.INVALID_PACKED;
+  }
+
+  /**
+   * write a packed lunar date to row i of the columns, {@link LunarDate#INVALID_PACKED} is
+   * cleared to 0 without branching
+   */
+  private static void unpack(int packed, int i, int[] years, byte[] months, byte[] days,
+      byte[] leaps) {
+    packed &= ~(packed >> 31);
+    years[i] = LunarDate.packedYear(packed);
+    months[i] = (byte) LunarDate.packedMonth(packed);
+    leaps[i] = (byte) (LunarDate.isPackedLeap(packed) ? 1 : 0);
+    days[i] = (byte) LunarDate.packedDay(packed);
+  }
+
+  private static void checkLength(int length, int destinationLength) {
+    if (destinationLength < length) {
+      throw new IndexOutOfBoundsException("last destination index " + length
+          + " out of bounds for length " + destinationLength);
+    }
+  }
+
+  private static void checkColumns(int length, int[] years, byte[] months, byte[] days,
+      byte[] leaps) {
+    checkLength(length, years.length);
+    checkLength(length, months.length);
+    checkLength(length, days.length);
+    checkLength(length, leaps.length);
+  }
+
+  private static void run(int length, RangeConverter converter) {
+    if (length <= SEQUENTIAL_THRESHOLD) {
+      converter.convert(0, length);
+    } else {
+      ForkJoinPool.commonPool().invoke(new BatchTask(converter, 0, length));
+    }
+  }
+
+  /**
+   * converts rows from (inclusive) to (exclusive)
+   */
+  @FunctionalInterface
+  private interface RangeConverter {
+
+    void convert(int from, int to);
+  }
+
+  private static final class BatchTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 0x4261746368L;
+    private final RangeConverter converter;
+    private final int from;
+    private final int to;
+
+    private BatchTask(RangeConverter converter, int from, int to) {
+      this.converter = converter;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= SEQUENTIAL_THRESHOLD) {
+        converter.convert(from, to);
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      invokeAll(new BatchTask(converter, from, middle), new BatchTask(converter, middle, to));
+    }
+  }
+
+  /**
+   * packed lunar date of every supported day, initialized on first use
+   */
+  private static final class Table {
+
+    static final int[] DAY_PACKED =
+        new int[LunarTable.MAX_EPOCH_DAY - LunarTable.MIN_EPOCH_DAY + 1];
+
+    static {
+      for (int i = 0; i < DAY_PACKED.length; i++) {
+        DAY_PACKED[i] = LunarDate.tryToLunarPacked(LunarTable.MIN_EPOCH_DAY + i);
+      }
+    }
+  }
+}
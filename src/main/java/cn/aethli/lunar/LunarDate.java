@@ -1,32 +1,51 @@
 package cn.aethli.lunar;
 
 import cn.aethli.lunar.exception.LunarException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjusters;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Objects;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Calendar support range:
  * <p>      Calendar               Minimum             Maximum
  * <p>      Gregorian              1901/02/19          2101/01/28
  * <p>      LunarDate              1901/01/01          2100/12/29
+ * <p>the range follows the calendar table, an external table can be set by system property
+ * cn.aethli.lunar.table
  *
  * @author selcarpa
  **/
-public class LunarDate implements Serializable {
+public final class LunarDate implements Serializable, Comparable<LunarDate> {
 
   private static final long serialVersionUID = 0x123456789abcdL;
 
-  private static final int MIN_LUNAR_YEAR = 1901;
-  private static final int MAX_LUNAR_YEAR = 2100;
   private static final int MAX_DAY_IN_YEAR = 384;
-  private static final int MAX_LUNAR_MONTH = 13;
   private static final int MAX_DAY_PER_MONTH = 30;
+  /**
+   * packed lunar date layout: year &lt;&lt; 10 | month &lt;&lt; 6 | leap &lt;&lt; 5 | day
+   */
+  private static final int PACKED_YEAR_SHIFT = 10;
+  private static final int PACKED_MONTH_SHIFT = 6;
+  private static final int PACKED_MONTH_MASK = 0xf;
+  private static final int PACKED_LEAP_BIT = 1 << 5;
+  private static final int PACKED_DAY_MASK = 0x1f;
+  /**
+   * returned by {@link #tryToLunarPacked(long)} for an unsupported day, packed dates are positive
+   */
+  public static final int INVALID_PACKED = -1;
+  /**
+   * invalid reasons of {@link #validMonthIndex(int, int, boolean)}
+   */
+  private static final int OUT_OF_RANGE = -1;
+  private static final int NOT_LEAP_MONTH = -2;
 //  private static final LocalDate MIN_DATE = LocalDate.of(1901, 2, 19);
 //  private static final LocalDate MAX_DATE = LocalDate.of(2101, 1, 28);
 
@@ -36,283 +55,328 @@ public class LunarDate implements Serializable {
       "十月", "冬月", "腊月"};
   private static final String LEAP_HEADER = "闰";
   private static final String[] YEAR_NAME = {"零", "一", "二", "三", "四", "五", "六", "七", "八", "九"};
+  private static final String[] STEM = {"甲", "乙", "丙", "丁", "戊", "己", "庚", "辛", "壬", "癸"};
+  private static final String[] BRANCH = {"子", "丑", "寅", "卯", "辰", "巳", "午", "未", "申", "酉", "戌",
+      "亥"};
+  private static final String[] ZODIAC = {"鼠", "牛", "虎", "兔", "龙", "蛇", "马", "羊", "猴", "鸡", "狗",
+      "猪"};
+  private static final int SEXAGENARY_CYCLE = 60;
   /**
-   * <p>Lmon:month of chinese NewYear
-   * <p>Lday:day of chinese NewYear
-   * <p>DaysPerMonth:days per month 1 for 30 days 0 for 29 days
-   * <p>LM:leap Month
-   */
-  private static final int[][] YEAR_INFO =
-      {
-/*Y          LM Lmon Lday DaysPerMonth           D1   D2   D3   D4   D5   D6   D7   D8   D9   D10  D11  D12  D13  #Days
-1901     */ {0, 2, 19, 0b0100101011100000}, /*   29   30   29   29   30   29   30   29   30   30   30   29        354
-1902     */ {0, 2, 8, 0b1010010101110000},  /*   30   29   30   29   29   30   29   30   29   30   30   30        355
-1903     */ {5, 1, 29, 0b0101001001101000}, /*   29   30   29   30   29   29   30   29   29   30   30   29   30   383
-1904     */ {0, 2, 16, 0b1101001001100000}, /*   30   30   29   30   29   29   30   29   29   30   30   29        354
-1905     */ {0, 2, 4, 0b1101100101010000},  /*   30   30   29   30   30   29   29   30   29   30   29   30        355
-1906     */ {4, 1, 25, 0b0110101010101000}, /*   29   30   30   29   30   29   30   29   30   29   30   29   30   384
-1907     */ {0, 2, 13, 0b0101011010100000}, /*   29   30   29   30   29   30   30   29   30   29   30   29        354
-1908     */ {0, 2, 2, 0b1001101011010000},  /*   30   29   29   30   30   29   30   29   30   30   29   30        355
-1909     */ {2, 1, 22, 0b0100101011101000}, /*   29   30   29   29   30   29   30   29   30   30   30   29   30   384
-1910     */ {0, 2, 10, 0b0100101011100000}, /*   29   30   29   29   30   29   30   29   30   30   30   29        354
-1911     */ {6, 1, 30, 0b1010010011011000}, /*   30   29   30   29   29   30   29   29   30   30   29   30   30   384
-1912     */ {0, 2, 18, 0b1010010011010000}, /*   30   29   30   29   29   30   29   29   30   30   29   30        354
-1913     */ {0, 2, 6, 0b1101001001010000},  /*   30   30   29   30   29   29   30   29   29   30   29   30        354
-1914     */ {5, 1, 26, 0b1101010100101000}, /*   30   30   29   30   29   30   29   30   29   29   30   29   30   384
-1915     */ {0, 2, 14, 0b1011010101000000}, /*   30   29   30   30   29   30   29   30   29   30   29   29        354
-1916     */ {0, 2, 3, 0b1101011010100000},  /*   30   30   29   30   29   30   30   29   30   29   30   29        355
-1917     */ {2, 1, 23, 0b1001011011010000}, /*   30   29   29   30   29   30   30   29   30   30   29   30   29   384
-1918     */ {0, 2, 11, 0b1001010110110000}, /*   30   29   29   30   29   30   29   30   30   29   30   30        355
-1919     */ {7, 2, 1, 0b0100100110111000},  /*   29   30   29   29   30   29   29   30   30   29   30   30   30   384
-1920     */ {0, 2, 20, 0b0100100101110000}, /*   29   30   29   29   30   29   29   30   29   30   30   30        354
-1921     */ {0, 2, 8, 0b1010010010110000},  /*   30   29   30   29   29   30   29   29   30   29   30   30        354
-1922     */ {5, 1, 28, 0b1011001001011000}, /*   30   29   30   30   29   29   30   29   29   30   29   30   30   384
-1923     */ {0, 2, 16, 0b0110101001010000}, /*   29   30   30   29   30   29   30   29   29   30   29   30        354
-1924     */ {0, 2, 5, 0b0110110101000000},  /*   29   30   30   29   30   30   29   30   29   30   29   29        354
-1925     */ {4, 1, 24, 0b1010110110101000}, /*   30   29   30   29   30   30   29   30   30   29   30   29   30   385
-1926     */ {0, 2, 13, 0b0010101101100000}, /*   29   29   30   29   30   29   30   30   29   30   30   29        354
-1927     */ {0, 2, 2, 0b1001010101110000},  /*   30   29   29   30   29   30   29   30   29   30   30   30        355
-1928     */ {2, 1, 23, 0b0100100101111000}, /*   29   30   29   29   30   29   29   30   29   30   30   30   30   384
-1929     */ {0, 2, 10, 0b0100100101110000}, /*   29   30   29   29   30   29   29   30   29   30   30   30        354
-1930     */ {6, 1, 30, 0b0110010010110000}, /*   29   30   30   29   29   30   29   29   30   29   30   30   29   383
-1931     */ {0, 2, 17, 0b1101010010100000}, /*   30   30   29   30   29   30   29   29   30   29   30   29        354
-1932     */ {0, 2, 6, 0b1110101001010000},  /*   30   30   30   29   30   29   30   29   29   30   29   30        355
-1933     */ {5, 1, 26, 0b0110110101001000}, /*   29   30   30   29   30   30   29   30   29   30   29   29   30   384
-1934     */ {0, 2, 14, 0b0101101011010000}, /*   29   30   29   30   30   29   30   29   30   30   29   30        355
-1935     */ {0, 2, 4, 0b0010101101100000},  /*   29   29   30   29   30   29   30   30   29   30   30   29        354
-1936     */ {3, 1, 24, 0b1001001101110000}, /*   30   29   29   30   29   29   30   30   29   30   30   30   29   384
-1937     */ {0, 2, 11, 0b1001001011100000}, /*   30   29   29   30   29   29   30   29   30   30   30   29        354
-1938     */ {7, 1, 31, 0b1100100101101000}, /*   30   30   29   29   30   29   29   30   29   30   30   29   30   384
-1939     */ {0, 2, 19, 0b1100100101010000}, /*   30   30   29   29   30   29   29   30   29   30   29   30        354
-1940     */ {0, 2, 8, 0b1101010010100000},  /*   30   30   29   30   29   30   29   29   30   29   30   29        354
-1941     */ {6, 1, 27, 0b1101101001010000}, /*   30   30   29   30   30   29   30   29   29   30   29   30   29   384
-1942     */ {0, 2, 15, 0b1011010101010000}, /*   30   29   30   30   29   30   29   30   29   30   29   30        355
-1943     */ {0, 2, 5, 0b0101011010100000},  /*   29   30   29   30   29   30   30   29   30   29   30   29        354
-1944     */ {4, 1, 25, 0b1010101011011000}, /*   30   29   30   29   30   29   30   29   30   30   29   30   30   385
-1945     */ {0, 2, 13, 0b0010010111010000}, /*   29   29   30   29   29   30   29   30   30   30   29   30        354
-1946     */ {0, 2, 2, 0b1001001011010000},  /*   30   29   29   30   29   29   30   29   30   30   29   30        354
-1947     */ {2, 1, 22, 0b1100100101011000}, /*   30   30   29   29   30   29   29   30   29   30   29   30   30   384
-1948     */ {0, 2, 10, 0b1010100101010000}, /*   30   29   30   29   30   29   29   30   29   30   29   30        354
-1949     */ {7, 1, 29, 0b1011010010101000}, /*   30   29   30   30   29   30   29   29   30   29   30   29   30   384
-1950     */ {0, 2, 17, 0b0110110010100000}, /*   29   30   30   29   30   30   29   29   30   29   30   29        354
-1951     */ {0, 2, 6, 0b1011010101010000},  /*   30   29   30   30   29   30   29   30   29   30   29   30        355
-1952     */ {5, 1, 27, 0b0101010110101000}, /*   29   30   29   30   29   30   29   30   30   29   30   29   30   384
-1953     */ {0, 2, 14, 0b0100110110100000}, /*   29   30   29   29   30   30   29   30   30   29   30   29        354
-1954     */ {0, 2, 3, 0b1010010110110000},  /*   30   29   30   29   29   30   29   30   30   29   30   30        355
-1955     */ {3, 1, 24, 0b0101001010111000}, /*   29   30   29   30   29   29   30   29   30   29   30   30   30   384
-1956     */ {0, 2, 12, 0b0101001010110000}, /*   29   30   29   30   29   29   30   29   30   29   30   30        354
-1957     */ {8, 1, 31, 0b1010100101010000}, /*   30   29   30   29   30   29   29   30   29   30   29   30   29   383
-1958     */ {0, 2, 18, 0b1110100101010000}, /*   30   30   30   29   30   29   29   30   29   30   29   30        355
-1959     */ {0, 2, 8, 0b0110101010100000},  /*   29   30   30   29   30   29   30   29   30   29   30   29        354
-1960     */ {6, 1, 28, 0b1010110101010000}, /*   30   29   30   29   30   30   29   30   29   30   29   30   29   384
-1961     */ {0, 2, 15, 0b1010101101010000}, /*   30   29   30   29   30   29   30   30   29   30   29   30        355
-1962     */ {0, 2, 5, 0b0100101101100000},  /*   29   30   29   29   30   29   30   30   29   30   30   29        354
-1963     */ {4, 1, 25, 0b1010010101110000}, /*   30   29   30   29   29   30   29   30   29   30   30   30   29   384
-1964     */ {0, 2, 13, 0b1010010101110000}, /*   30   29   30   29   29   30   29   30   29   30   30   30        355
-1965     */ {0, 2, 2, 0b0101001001100000},  /*   29   30   29   30   29   29   30   29   29   30   30   29        353
-1966     */ {3, 1, 21, 0b1110100100110000}, /*   30   30   30   29   30   29   29   30   29   29   30   30   29   384
-1967     */ {0, 2, 9, 0b1101100101010000},  /*   30   30   29   30   30   29   29   30   29   30   29   30        355
-1968     */ {7, 1, 30, 0b0101101010101000}, /*   29   30   29   30   30   29   30   29   30   29   30   29   30   384
-1969     */ {0, 2, 17, 0b0101011010100000}, /*   29   30   29   30   29   30   30   29   30   29   30   29        354
-1970     */ {0, 2, 6, 0b1001011011010000},  /*   30   29   29   30   29   30   30   29   30   30   29   30        355
-1971     */ {5, 1, 27, 0b0100101011101000}, /*   29   30   29   29   30   29   30   29   30   30   30   29   30   384
-1972     */ {0, 2, 15, 0b0100101011010000}, /*   29   30   29   29   30   29   30   29   30   30   29   30        354
-1973     */ {0, 2, 3, 0b1010010011010000},  /*   30   29   30   29   29   30   29   29   30   30   29   30        354
-1974     */ {4, 1, 23, 0b1101001001101000}, /*   30   30   29   30   29   29   30   29   29   30   30   29   30   384
-1975     */ {0, 2, 11, 0b1101001001010000}, /*   30   30   29   30   29   29   30   29   29   30   29   30        354
-1976     */ {8, 1, 31, 0b1101010100101000}, /*   30   30   29   30   29   30   29   30   29   29   30   29   30   384
-1977     */ {0, 2, 18, 0b1011010101000000}, /*   30   29   30   30   29   30   29   30   29   30   29   29        354
-1978     */ {0, 2, 7, 0b1011011010100000},  /*   30   29   30   30   29   30   30   29   30   29   30   29        355
-1979     */ {6, 1, 28, 0b1001011011010000}, /*   30   29   29   30   29   30   30   29   30   30   29   30   29   384
-1980     */ {0, 2, 16, 0b1001010110110000}, /*   30   29   29   30   29   30   29   30   30   29   30   30        355
-1981     */ {0, 2, 5, 0b0100100110110000},  /*   29   30   29   29   30   29   29   30   30   29   30   30        354
-1982     */ {4, 1, 25, 0b1010010010111000}, /*   30   29   30   29   29   30   29   29   30   29   30   30   30   384
-1983     */ {0, 2, 13, 0b1010010010110000}, /*   30   29   30   29   29   30   29   29   30   29   30   30        354
-1984     */ {10, 2, 2, 0b1011001001011000}, /*   30   29   30   30   29   29   30   29   29   30   29   30   30   384
-1985     */ {0, 2, 20, 0b0110101001010000}, /*   29   30   30   29   30   29   30   29   29   30   29   30        354
-1986     */ {0, 2, 9, 0b0110110101000000},  /*   29   30   30   29   30   30   29   30   29   30   29   29        354
-1987     */ {6, 1, 29, 0b1010110110100000}, /*   30   29   30   29   30   30   29   30   30   29   30   29   29   384
-1988     */ {0, 2, 17, 0b1010101101100000}, /*   30   29   30   29   30   29   30   30   29   30   30   29        355
-1989     */ {0, 2, 6, 0b1001010101110000},  /*   30   29   29   30   29   30   29   30   29   30   30   30        355
-1990     */ {5, 1, 27, 0b0100100101111000}, /*   29   30   29   29   30   29   29   30   29   30   30   30   30   384
-1991     */ {0, 2, 15, 0b0100100101110000}, /*   29   30   29   29   30   29   29   30   29   30   30   30        354
-1992     */ {0, 2, 4, 0b0110010010110000},  /*   29   30   30   29   29   30   29   29   30   29   30   30        354
-1993     */ {3, 1, 23, 0b0110101001010000}, /*   29   30   30   29   30   29   30   29   29   30   29   30   29   383
-1994     */ {0, 2, 10, 0b1110101001010000}, /*   30   30   30   29   30   29   30   29   29   30   29   30        355
-1995     */ {8, 1, 31, 0b0110101100101000}, /*   29   30   30   29   30   29   30   30   29   29   30   29   30   384
-1996     */ {0, 2, 19, 0b0101101011000000}, /*   29   30   29   30   30   29   30   29   30   30   29   29        354
-1997     */ {0, 2, 7, 0b1010101101100000},  /*   30   29   30   29   30   29   30   30   29   30   30   29        355
-1998     */ {5, 1, 28, 0b1001001101101000}, /*   30   29   29   30   29   29   30   30   29   30   30   29   30   384
-1999     */ {0, 2, 16, 0b1001001011100000}, /*   30   29   29   30   29   29   30   29   30   30   30   29        354
-2000     */ {0, 2, 5, 0b1100100101100000},  /*   30   30   29   29   30   29   29   30   29   30   30   29        354
-2001     */ {4, 1, 24, 0b1101010010101000}, /*   30   30   29   30   29   30   29   29   30   29   30   29   30   384
-2002     */ {0, 2, 12, 0b1101010010100000}, /*   30   30   29   30   29   30   29   29   30   29   30   29        354
-2003     */ {0, 2, 1, 0b1101101001010000},  /*   30   30   29   30   30   29   30   29   29   30   29   30        355
-2004     */ {2, 1, 22, 0b0101101010101000}, /*   29   30   29   30   30   29   30   29   30   29   30   29   30   384
-2005     */ {0, 2, 9, 0b0101011010100000},  /*   29   30   29   30   29   30   30   29   30   29   30   29        354
-2006     */ {7, 1, 29, 0b1010101011011000}, /*   30   29   30   29   30   29   30   29   30   30   29   30   30   385
-2007     */ {0, 2, 18, 0b0010010111010000}, /*   29   29   30   29   29   30   29   30   30   30   29   30        354
-2008     */ {0, 2, 7, 0b1001001011010000},  /*   30   29   29   30   29   29   30   29   30   30   29   30        354
-2009     */ {5, 1, 26, 0b1100100101011000}, /*   30   30   29   29   30   29   29   30   29   30   29   30   30   384
-2010     */ {0, 2, 14, 0b1010100101010000}, /*   30   29   30   29   30   29   29   30   29   30   29   30        354
-2011     */ {0, 2, 3, 0b1011010010100000},  /*   30   29   30   30   29   30   29   29   30   29   30   29        354
-2012     */ {4, 1, 23, 0b1011010101010000}, /*   30   29   30   30   29   30   29   30   29   30   29   30   29   384
-2013     */ {0, 2, 10, 0b1010110101010000}, /*   30   29   30   29   30   30   29   30   29   30   29   30        355
-2014     */ {9, 1, 31, 0b0101010110101000}, /*   29   30   29   30   29   30   29   30   30   29   30   29   30   384
-2015     */ {0, 2, 19, 0b0100101110100000}, /*   29   30   29   29   30   29   30   30   30   29   30   29        354
-2016     */ {0, 2, 8, 0b1010010110110000},  /*   30   29   30   29   29   30   29   30   30   29   30   30        355
-2017     */ {6, 1, 28, 0b0101001010111000}, /*   29   30   29   30   29   29   30   29   30   29   30   30   30   384
-2018     */ {0, 2, 16, 0b0101001010110000}, /*   29   30   29   30   29   29   30   29   30   29   30   30        354
-2019     */ {0, 2, 5, 0b1010100100110000},  /*   30   29   30   29   30   29   29   30   29   29   30   30        354
-2020     */ {4, 1, 25, 0b0111010010101000}, /*   29   30   30   30   29   30   29   29   30   29   30   29   30   384
-2021     */ {0, 2, 12, 0b0110101010100000}, /*   29   30   30   29   30   29   30   29   30   29   30   29        354
-2022     */ {0, 2, 1, 0b1010110101010000},  /*   30   29   30   29   30   30   29   30   29   30   29   30        355
-2023     */ {2, 1, 22, 0b0100110110101000}, /*   29   30   29   29   30   30   29   30   30   29   30   29   30   384
-2024     */ {0, 2, 10, 0b0100101101100000}, /*   29   30   29   29   30   29   30   30   29   30   30   29        354
-2025     */ {6, 1, 29, 0b1010010101110000}, /*   30   29   30   29   29   30   29   30   29   30   30   30   29   384
-2026     */ {0, 2, 17, 0b1010010011100000}, /*   30   29   30   29   29   30   29   29   30   30   30   29        354
-2027     */ {0, 2, 6, 0b1101001001100000},  /*   30   30   29   30   29   29   30   29   29   30   30   29        354
-2028     */ {5, 1, 26, 0b1110100100110000}, /*   30   30   30   29   30   29   29   30   29   29   30   30   29   384
-2029     */ {0, 2, 13, 0b1101010100110000}, /*   30   30   29   30   29   30   29   30   29   29   30   30        355
-2030     */ {0, 2, 3, 0b0101101010100000},  /*   29   30   29   30   30   29   30   29   30   29   30   29        354
-2031     */ {3, 1, 23, 0b0110101101010000}, /*   29   30   30   29   30   29   30   30   29   30   29   30   29   384
-2032     */ {0, 2, 11, 0b1001011011010000}, /*   30   29   29   30   29   30   30   29   30   30   29   30        355
-2033     */ {11, 1, 31, 0b0100101011101000},/*   29   30   29   29   30   29   30   29   30   30   30   29   30   384
-2034     */ {0, 2, 19, 0b0100101011010000}, /*   29   30   29   29   30   29   30   29   30   30   29   30        354
-2035     */ {0, 2, 8, 0b1010010011010000},  /*   30   29   30   29   29   30   29   29   30   30   29   30        354
-2036     */ {6, 1, 28, 0b1101001001011000}, /*   30   30   29   30   29   29   30   29   29   30   29   30   30   384
-2037     */ {0, 2, 15, 0b1101001001010000}, /*   30   30   29   30   29   29   30   29   29   30   29   30        354
-2038     */ {0, 2, 4, 0b1101010100100000},  /*   30   30   29   30   29   30   29   30   29   29   30   29        354
-2039     */ {5, 1, 24, 0b1101101010100000}, /*   30   30   29   30   30   29   30   29   30   29   30   29   29   384
-2040     */ {0, 2, 12, 0b1011010110100000}, /*   30   29   30   30   29   30   29   30   30   29   30   29        355
-2041     */ {0, 2, 1, 0b0101011011010000},  /*   29   30   29   30   29   30   30   29   30   30   29   30        355
-2042     */ {2, 1, 22, 0b0100101011011000}, /*   29   30   29   29   30   29   30   29   30   30   29   30   30   384
-2043     */ {0, 2, 10, 0b0100100110110000}, /*   29   30   29   29   30   29   29   30   30   29   30   30        354
-2044     */ {7, 1, 30, 0b1010010010111000}, /*   30   29   30   29   29   30   29   29   30   29   30   30   30   384
-2045     */ {0, 2, 17, 0b1010010010110000}, /*   30   29   30   29   29   30   29   29   30   29   30   30        354
-2046     */ {0, 2, 6, 0b1010101001010000},  /*   30   29   30   29   30   29   30   29   29   30   29   30        354
-2047     */ {5, 1, 26, 0b1011010100101000}, /*   30   29   30   30   29   30   29   30   29   29   30   29   30   384
-2048     */ {0, 2, 14, 0b0110110100100000}, /*   29   30   30   29   30   30   29   30   29   29   30   29        354
-2049     */ {0, 2, 2, 0b1010110110100000},  /*   30   29   30   29   30   30   29   30   30   29   30   29        355
-2050     */ {3, 1, 23, 0b0101010110110000}, /*   29   30   29   30   29   30   29   30   30   29   30   30   29   384
-2051     */ {0, 2, 11, 0b1001001101110000}, /*   30   29   29   30   29   29   30   30   29   30   30   30        355
-2052     */ {8, 2, 1, 0b0100100101111000},  /*   29   30   29   29   30   29   29   30   29   30   30   30   30   384
-2053     */ {0, 2, 19, 0b0100100101110000}, /*   29   30   29   29   30   29   29   30   29   30   30   30        354
-2054     */ {0, 2, 8, 0b0110010010110000},  /*   29   30   30   29   29   30   29   29   30   29   30   30        354
-2055     */ {6, 1, 28, 0b0110101001010000}, /*   29   30   30   29   30   29   30   29   29   30   29   30   29   383
-2056     */ {0, 2, 15, 0b1110101001010000}, /*   30   30   30   29   30   29   30   29   29   30   29   30        355
-2057     */ {0, 2, 4, 0b0110101010100000},  /*   29   30   30   29   30   29   30   29   30   29   30   29        354
-2058     */ {4, 1, 24, 0b1010101101100000}, /*   30   29   30   29   30   29   30   30   29   30   30   29   29   384
-2059     */ {0, 2, 12, 0b1010101011100000}, /*   30   29   30   29   30   29   30   29   30   30   30   29        355
-2060     */ {0, 2, 2, 0b1001001011100000},  /*   30   29   29   30   29   29   30   29   30   30   30   29        354
-2061     */ {3, 1, 21, 0b1100100101110000}, /*   30   30   29   29   30   29   29   30   29   30   30   30   29   384
-2062     */ {0, 2, 9, 0b1100100101100000},  /*   30   30   29   29   30   29   29   30   29   30   30   29        354
-2063     */ {7, 1, 29, 0b1101010010101000}, /*   30   30   29   30   29   30   29   29   30   29   30   29   30   384
-2064     */ {0, 2, 17, 0b1101010010100000}, /*   30   30   29   30   29   30   29   29   30   29   30   29        354
-2065     */ {0, 2, 5, 0b1101101001010000},  /*   30   30   29   30   30   29   30   29   29   30   29   30        355
-2066     */ {5, 1, 26, 0b0101101010101000}, /*   29   30   29   30   30   29   30   29   30   29   30   29   30   384
-2067     */ {0, 2, 14, 0b0101011010100000}, /*   29   30   29   30   29   30   30   29   30   29   30   29        354
-2068     */ {0, 2, 3, 0b1010011011010000},  /*   30   29   30   29   29   30   30   29   30   30   29   30        355
-2069     */ {4, 1, 23, 0b0101001011101000}, /*   29   30   29   30   29   29   30   29   30   30   30   29   30   384
-2070     */ {0, 2, 11, 0b0101001011010000}, /*   29   30   29   30   29   29   30   29   30   30   29   30        354
-2071     */ {8, 1, 31, 0b1010100101011000}, /*   30   29   30   29   30   29   29   30   29   30   29   30   30   384
-2072     */ {0, 2, 19, 0b1010100101010000}, /*   30   29   30   29   30   29   29   30   29   30   29   30        354
-2073     */ {0, 2, 7, 0b1011010010100000},  /*   30   29   30   30   29   30   29   29   30   29   30   29        354
-2074     */ {6, 1, 27, 0b1011010101010000}, /*   30   29   30   30   29   30   29   30   29   30   29   30   29   384
-2075     */ {0, 2, 15, 0b1010110101010000}, /*   30   29   30   29   30   30   29   30   29   30   29   30        355
-2076     */ {0, 2, 5, 0b0101010110100000},  /*   29   30   29   30   29   30   29   30   30   29   30   29        354
-2077     */ {4, 1, 24, 0b1010010111010000}, /*   30   29   30   29   29   30   29   30   30   30   29   30   29   384
-2078     */ {0, 2, 12, 0b1010010110110000}, /*   30   29   30   29   29   30   29   30   30   29   30   30        355
-2079     */ {0, 2, 2, 0b0101001010110000},  /*   29   30   29   30   29   29   30   29   30   29   30   30        354
-2080     */ {3, 1, 22, 0b1010100100111000}, /*   30   29   30   29   30   29   29   30   29   29   30   30   30   384
-2081     */ {0, 2, 9, 0b0110100100110000},  /*   29   30   30   29   30   29   29   30   29   29   30   30        354
-2082     */ {7, 1, 29, 0b0111001010011000}, /*   29   30   30   30   29   29   30   29   30   29   29   30   30   384
-2083     */ {0, 2, 17, 0b0110101010100000}, /*   29   30   30   29   30   29   30   29   30   29   30   29        354
-2084     */ {0, 2, 6, 0b1010110101010000},  /*   30   29   30   29   30   30   29   30   29   30   29   30        355
-2085     */ {5, 1, 26, 0b0100110110101000}, /*   29   30   29   29   30   30   29   30   30   29   30   29   30   384
-2086     */ {0, 2, 14, 0b0100101101100000}, /*   29   30   29   29   30   29   30   30   29   30   30   29        354
-2087     */ {0, 2, 3, 0b1010010101110000},  /*   30   29   30   29   29   30   29   30   29   30   30   30        355
-2088     */ {4, 1, 24, 0b0101001001110000}, /*   29   30   29   30   29   29   30   29   29   30   30   30   29   383
-2089     */ {0, 2, 10, 0b1101000101100000}, /*   30   30   29   30   29   29   29   30   29   30   30   29        354
-2090     */ {8, 1, 30, 0b1110100100110000}, /*   30   30   30   29   30   29   29   30   29   29   30   30   29   384
-2091     */ {0, 2, 18, 0b1101010100100000}, /*   30   30   29   30   29   30   29   30   29   29   30   29        354
-2092     */ {0, 2, 7, 0b1101101010100000},  /*   30   30   29   30   30   29   30   29   30   29   30   29        355
-2093     */ {6, 1, 27, 0b0110101101010000}, /*   29   30   30   29   30   29   30   30   29   30   29   30   29   384
-2094     */ {0, 2, 15, 0b0101011011010000}, /*   29   30   29   30   29   30   30   29   30   30   29   30        355
-2095     */ {0, 2, 5, 0b0100101011100000},  /*   29   30   29   29   30   29   30   29   30   30   30   29        354
-2096     */ {4, 1, 25, 0b1010010011101000}, /*   30   29   30   29   29   30   29   29   30   30   30   29   30   384
-2097     */ {0, 2, 12, 0b1010001011010000}, /*   30   29   30   29   29   29   30   29   30   30   29   30        354
-2098     */ {0, 2, 1, 0b1101000101010000},  /*   30   30   29   30   29   29   29   30   29   30   29   30        354
-2099     */ {2, 1, 21, 0b1101100100101000}, /*   30   30   29   30   30   29   29   30   29   29   30   29   30   384
-2100     */ {0, 2, 9, 0b1101010100100000},  /*   30   30   29   30   29   30   29   30   29   29   30   29        354
-   */};
-  private String yearName;
-  private String monthName;
-  private String dayName;
-  private int year;
-  private int month;
-  private int day;
-  private LeapType leapType;
-  private LocalDate gregorianDate;
-
-  private LunarDate(int year, int month, int day, LeapType leapType) {
-    this.year = year;
-    this.month = month - 1;
-    this.day = day;
-    this.leapType = leapType;
-    int[] thisYearInfo = YEAR_INFO[year - MIN_LUNAR_YEAR];
-    int[] daysPerMonth = toBinaryInts(thisYearInfo[3]);
-    LocalDate thisChineseNewYear = LocalDate
-        .of(year, thisYearInfo[1], thisYearInfo[2]);
-    int dayCount = 0;
-    for (int i = 1; i <= month; i++) {
-      if (i < month) {
-        dayCount = dayCount + daysPerMonth[i] == 0 ? 29 : 30;
+   * 1984 is 甲子 year
+   */
+  private static final int SEXAGENARY_YEAR_OFFSET = 4;
+  /**
+   * 1970-01-01 is 辛巳 day
+   */
+  private static final int SEXAGENARY_DAY_OFFSET = 17;
+  /**
+   * name of stem and branch 甲子 to 癸亥, index 0 to 59
+   */
+  private static final String[] SEXAGENARY_NAMES = new String[SEXAGENARY_CYCLE];
+  private static final LunarFormatter TO_STRING_FORMATTER = LunarFormatter
+      .ofPattern("'lunar:'N-MMM-ddd-y-M-d(LLL)'\tgregorian:'");
+  /**
+   * name of lunar day 1 to 30
+   */
+  private static final String[] DAY_NAMES = new String[MAX_DAY_PER_MONTH];
+  /**
+   * name of lunar month 1 to 12, then leap month 1 to 12
+   */
+  private static final String[] MONTH_NAMES = new String[MONTH_NAME.length * 2];
+  /**
+   * name of lunar year MIN_LUNAR_YEAR to MAX_LUNAR_YEAR
+   */
+  private static final String[] YEAR_NAMES = new String[
+      LunarTable.MAX_LUNAR_YEAR - LunarTable.MIN_LUNAR_YEAR + 1];
+
+  static {
+    for (int i = 1; i <= MAX_DAY_PER_MONTH; i++) {
+      String dayName;
+      if (i <= 10) {
+        dayName = DAY_HEADER[0] + NUMBER[i];
+      } else if (i < 20) {
+        dayName = DAY_HEADER[1] + NUMBER[i - 10];
+      } else if (i == 20) {
+        dayName = NUMBER[2] + NUMBER[10];
+      } else if (i < 30) {
+        dayName = DAY_HEADER[2] + NUMBER[i - 20];
       } else {
-        dayCount = dayCount + day;
+        dayName = NUMBER[3] + NUMBER[10];
+      }
+      DAY_NAMES[i - 1] = dayName;
+    }
+    for (int i = 0; i < MONTH_NAME.length; i++) {
+      MONTH_NAMES[i] = MONTH_NAME[i];
+      MONTH_NAMES[MONTH_NAME.length + i] = LEAP_HEADER + MONTH_NAME[i];
+    }
+    for (int i = 0; i < YEAR_NAMES.length; i++) {
+      StringBuilder yearName = new StringBuilder(4);
+      for (char c : String.valueOf(LunarTable.MIN_LUNAR_YEAR + i).toCharArray()) {
+        yearName.append(YEAR_NAME[c - '0']);
       }
+      YEAR_NAMES[i] = yearName.toString();
+    }
+    for (int i = 0; i < SEXAGENARY_CYCLE; i++) {
+      SEXAGENARY_NAMES[i] = (STEM[i % STEM.length] + BRANCH[i % BRANCH.length]).intern();
     }
-    gregorianDate = thisChineseNewYear.plusDays(dayCount);
-    updateLunarName(thisYearInfo);
   }
 
-  private LunarDate(LocalDate gregorianDate) throws LunarException {
+  private final int year;
+  private final int month;
+  private final int day;
+  private final LeapType leapType;
+  private final LocalDate gregorianDate;
+  /**
+   * epoch day of gregorian date, identity of a LunarDate
+   */
+  private final int epochDay;
+
+  private LunarDate(LocalDate gregorianDate) {
+    int epochDay = (int) gregorianDate.toEpochDay();
+    int yearIndex = LunarTable.yearIndexOf(epochDay);
+    int dayOfYear = epochDay - LunarTable.YEAR_START_EPOCH_DAY[yearIndex];
+    int monthIndex = LunarTable.monthIndexOf(yearIndex, dayOfYear);
     this.gregorianDate = gregorianDate;
-    int[] thisYearInfo = YEAR_INFO[gregorianDate.getYear() - MIN_LUNAR_YEAR];
-    //get Chinese New Year of target date
-    LocalDate thisChineseNewYear = LocalDate
-        .of(gregorianDate.getYear(), thisYearInfo[1], thisYearInfo[2]);
-    if (thisChineseNewYear.isAfter(gregorianDate)) {
-      thisYearInfo = YEAR_INFO[gregorianDate.getYear() - MIN_LUNAR_YEAR - 1];
-      thisChineseNewYear = LocalDate
-          .of(gregorianDate.getYear() - 1, thisYearInfo[1], thisYearInfo[2]);
-    }
-    long between = ChronoUnit.DAYS.between(thisChineseNewYear, gregorianDate);
-    year = thisChineseNewYear.getYear();
-    month = 0;
-    day = 0;
-    leapType = LeapType.NOT_LEAP;
-    int[] daysPerMonth = toBinaryInts(thisYearInfo[3]);
-    for (int i = 0; i < 16; i++) {
-      if ((daysPerMonth[i] == 0 ? 29 : 30) > between) {
-//        if (month == 0) {
-//          day = (int) between;
-//        } else {
-//          day = (int) between - 1;
-//        }
-        day = (int) between;
-        break;
-      } else {
-        if (i == 15) {
-          throw new LunarException("unknown error 0");
-        } else {
-          month += 1;
-          between = between - (daysPerMonth[i] == 0 ? 29 : 30);
-        }
+    this.epochDay = epochDay;
+    year = LunarTable.MIN_LUNAR_YEAR + yearIndex;
+    month = monthIndex;
+    day = dayOfYear - LunarTable.monthOffset(yearIndex, monthIndex);
+    leapType = leapTypeOf(yearIndex, monthIndex);
+  }
+
+  private LunarDate(LocalDate gregorianDate, int yearIndex, int monthIndex, int day) {
+    this.gregorianDate = gregorianDate;
+    epochDay = (int) gregorianDate.toEpochDay();
+    year = LunarTable.MIN_LUNAR_YEAR + yearIndex;
+    month = monthIndex;
+    this.day = day;
+    leapType = leapTypeOf(yearIndex, monthIndex);
+  }
+
+  /**
+   * get a instance located by index, the canonical one if LunarDateCache is enabled
+   *
+   * @param yearIndex  index of lunar year
+   * @param monthIndex month index, the same as DaysPerMonth
+   * @param day        day of month, starts from 0, must be valid
+   * @return a already converted LunarDate
+   */
+  private static LunarDate ofIndex(int yearIndex, int monthIndex, int day) {
+    int epochDay = LunarTable.YEAR_START_EPOCH_DAY[yearIndex]
+        + LunarTable.monthOffset(yearIndex, monthIndex) + day;
+    if (LunarDateCache.isEnabled()) {
+      LunarDate cached = LunarDateCache.get(epochDay);
+      if (cached != null) {
+        return cached;
       }
+      return LunarDateCache.putIfAbsent(epochDay,
+          new LunarDate(LocalDate.ofEpochDay(epochDay), yearIndex, monthIndex, day));
     }
-    updateLunarName(thisYearInfo);
+    return new LunarDate(LocalDate.ofEpochDay(epochDay), yearIndex, monthIndex, day);
+  }
 
+  /**
+   * same as {@link #ofIndex(int, int, int)} but day is clamped to the length of month
+   */
+  private static LunarDate ofIndexClamped(int yearIndex, int monthIndex, int day) {
+    return ofIndex(yearIndex, monthIndex,
+        Math.min(day, LunarTable.monthLength(yearIndex, monthIndex) - 1));
+  }
+
+  /**
+   * <p>convert a gregorian epoch day to a packed lunar date without creating any object
+   * <p>packed layout: year &lt;&lt; 10 | month &lt;&lt; 6 | leap &lt;&lt; 5 | day, month and day start
+   * from 1, so packed dates are ordered the same as the days they stand for
+   *
+   * @param epochDay gregorian epoch day, see {@link LocalDate#toEpochDay()}
+   * @return packed lunar date
+   * @throws LunarException Exception with reason
+   */
+  public static int toLunarPacked(long epochDay) throws LunarException {
+    LunarMetrics metrics = LunarInstrumentation.metrics;
+    long start = metrics == null ? 0 : System.nanoTime();
+    if (epochDay < LunarTable.MIN_EPOCH_DAY || epochDay > LunarTable.MAX_EPOCH_DAY) {
+      throw LunarInstrumentation.rejected(metrics, LunarMetrics.Operation.TO_LUNAR_PACKED, start,
+          LunarException.stackless("out of Range"));
+    }
+    int packed = lunarPacked((int) epochDay);
+    if (metrics != null) {
+      metrics.conversion(LunarMetrics.Operation.TO_LUNAR_PACKED, System.nanoTime() - start);
+    }
+    return packed;
+  }
+
+  /**
+   * same as {@link #toLunarPacked(long)}, but never throws
+   *
+   * @param epochDay gregorian epoch day, see {@link LocalDate#toEpochDay()}
+   * @return packed lunar date, or {@link #INVALID_PACKED} if out of range
+   */
+  public static int tryToLunarPacked(long epochDay) {
+    if (epochDay < LunarTable.MIN_EPOCH_DAY || epochDay > LunarTable.MAX_EPOCH_DAY) {
+      return INVALID_PACKED;
+    }
+    return lunarPacked((int) epochDay);
+  }
+
+  /**
+   * @param epochDay gregorian epoch day in supported range
+   * @return packed lunar date
+   */
+  private static int lunarPacked(int epochDay) {
+    int yearIndex = LunarTable.yearIndexOf(epochDay);
+    int dayOfYear = epochDay - LunarTable.YEAR_START_EPOCH_DAY[yearIndex];
+    int monthIndex = LunarTable.monthIndexOf(yearIndex, dayOfYear);
+    return pack(yearIndex, monthIndex, dayOfYear - LunarTable.monthOffset(yearIndex, monthIndex));
+  }
+
+  /**
+   * @param packed packed lunar date, must be valid
+   * @return LunarDate of the packed date, without instrumentation
+   */
+  static LunarDate ofValidPacked(int packed) {
+    int yearIndex = packedYear(packed) - LunarTable.MIN_LUNAR_YEAR;
+    return ofIndex(yearIndex,
+        LunarTable.monthIndexOf(yearIndex, packedMonth(packed), isPackedLeap(packed)),
+        packedDay(packed) - 1);
+  }
+
+  /**
+   * pack a lunar date located by index
+   *
+   * @param yearIndex  index of lunar year
+   * @param monthIndex month index, the same as DaysPerMonth
+   * @param day        day of month, starts from 0
+   * @return packed lunar date
+   */
+  private static int pack(int yearIndex, int monthIndex, int day) {
+    return packLunar(LunarTable.MIN_LUNAR_YEAR + yearIndex,
+        LunarTable.monthOf(yearIndex, monthIndex), day + 1,
+        LunarTable.isLeapMonth(yearIndex, monthIndex));
+  }
+
+  /**
+   * convert a packed lunar date to gregorian epoch day without creating any object
+   *
+   * @param packed packed lunar date, see {@link #toLunarPacked(long)}
+   * @return gregorian epoch day, see {@link LocalDate#ofEpochDay(long)}
+   * @throws LunarException Exception with reason
+   */
+  public static long fromLunarPacked(int packed) throws LunarException {
+    LunarMetrics metrics = LunarInstrumentation.metrics;
+    long start = metrics == null ? 0 : System.nanoTime();
+    int yearIndex = packedYear(packed) - LunarTable.MIN_LUNAR_YEAR;
+    int monthIndex;
+    int day;
+    try {
+      monthIndex = checkedMonthIndex(yearIndex, packedMonth(packed), isPackedLeap(packed));
+      day = checkedDay(yearIndex, monthIndex, packedDay(packed));
+    } catch (LunarException e) {
+      throw LunarInstrumentation.rejected(metrics, LunarMetrics.Operation.FROM_LUNAR_PACKED, start,
+          e);
+    }
+    long epochDay = LunarTable.YEAR_START_EPOCH_DAY[yearIndex]
+        + LunarTable.monthOffset(yearIndex, monthIndex) + day;
+    if (metrics != null) {
+      metrics.conversion(LunarMetrics.Operation.FROM_LUNAR_PACKED, System.nanoTime() - start);
+    }
+    return epochDay;
+  }
+
+  /**
+   * @param yearIndex index of lunar year, may be out of range
+   * @param month     lunar month, 1 to 12
+   * @param leap      whether it is the leap month
+   * @return month index, the same as DaysPerMonth
+   * @throws LunarException Exception with reason
+   */
+  private static int checkedMonthIndex(int yearIndex, int month, boolean leap)
+      throws LunarException {
+    int monthIndex = validMonthIndex(yearIndex, month, leap);
+    if (monthIndex < 0) {
+      throw LunarException.stackless(monthIndex == NOT_LEAP_MONTH ? "not leap month"
+          : "out of Range");
+    }
+    return monthIndex;
+  }
+
+  /**
+   * @param yearIndex index of lunar year, may be out of range
+   * @param month     lunar month, 1 to 12
+   * @param leap      whether it is the leap month
+   * @return month index, the same as DaysPerMonth, or a negative reason if invalid
+   */
+  private static int validMonthIndex(int yearIndex, int month, boolean leap) {
+    if (yearIndex < 0 || yearIndex >= LunarTable.YEAR_COUNT || month < 1 || month > 12) {
+      return OUT_OF_RANGE;
+    }
+    if (leap && month != LunarTable.LEAP_MONTH[yearIndex]) {
+      return NOT_LEAP_MONTH;
+    }
+    return LunarTable.monthIndexOf(yearIndex, month, leap);
+  }
+
+  /**
+   * @param yearIndex  index of lunar year
+   * @param monthIndex month index, the same as DaysPerMonth
+   * @param day        lunar day, 1 to 30
+   * @return day of month, starts from 0
+   * @throws LunarException Exception with reason
+   */
+  private static int checkedDay(int yearIndex, int monthIndex, int day) throws LunarException {
+    if (!isValidDay(yearIndex, monthIndex, day)) {
+      throw LunarException.stackless("out of Range");
+    }
+    return day - 1;
+  }
+
+  private static boolean isValidDay(int yearIndex, int monthIndex, int day) {
+    return day >= 1 && day <= LunarTable.monthLength(yearIndex, monthIndex);
+  }
+
+  /**
+   * check a lunar date without throwing
+   *
+   * @param year     lunar year
+   * @param month    lunar month
+   * @param day      lunar day
+   * @param leapType leap type, see {@link #ofDay(int, int, int, LeapType)}
+   * @return whether the lunar date exists in supported range
+   */
+  public static boolean isValid(int year, int month, int day, LeapType leapType) {
+    int yearIndex = year - LunarTable.MIN_LUNAR_YEAR;
+    int monthIndex = validMonthIndex(yearIndex, month, leapType == LeapType.LEAP_1);
+    return monthIndex >= 0 && isValidDay(yearIndex, monthIndex, day);
+  }
+
+  /**
+   * pack a lunar date into an int, the date is not checked
+   *
+   * @param year  lunar year
+   * @param month lunar month, 1 to 12
+   * @param day   lunar day, 1 to 30
+   * @param leap  whether the month is a leap month
+   * @return packed lunar date
+   */
+  public static int packLunar(int year, int month, int day, boolean leap) {
+    return year << PACKED_YEAR_SHIFT | month << PACKED_MONTH_SHIFT | (leap ? PACKED_LEAP_BIT : 0)
+        | day;
+  }
+
+  public static int packedYear(int packed) {
+    return packed >>> PACKED_YEAR_SHIFT;
+  }
+
+  public static int packedMonth(int packed) {
+    return packed >>> PACKED_MONTH_SHIFT & PACKED_MONTH_MASK;
+  }
+
+  public static int packedDay(int packed) {
+    return packed & PACKED_DAY_MASK;
+  }
+
+  public static boolean isPackedLeap(int packed) {
+    return (packed & PACKED_LEAP_BIT) != 0;
   }
 
   /**
@@ -323,15 +387,67 @@ public class LunarDate implements Serializable {
    * @throws LunarException Exception with reason
    */
   public static LunarDate ofDay(LocalDate gregorianDate) throws LunarException {
-    if (gregorianDate.getYear() < MIN_LUNAR_YEAR || gregorianDate.getYear() > MAX_LUNAR_YEAR) {
-      throw new LunarException("out of Range");
+    LunarMetrics metrics = LunarInstrumentation.metrics;
+    return metrics == null ? unmeteredOfDay(gregorianDate) : LunarInstrumentation.metered(metrics,
+        LunarMetrics.Operation.OF_DAY, () -> unmeteredOfDay(gregorianDate));
+  }
+
+  private static LunarDate unmeteredOfDay(LocalDate gregorianDate) throws LunarException {
+    long epochDay = gregorianDate.toEpochDay();
+    if (epochDay < LunarTable.MIN_EPOCH_DAY || epochDay > LunarTable.MAX_EPOCH_DAY) {
+      throw LunarException.stackless("out of Range");
+    }
+    return ofValidDay(gregorianDate, epochDay);
+  }
+
+  /**
+   * same as {@link #ofDay(LocalDate)}, but never throws
+   *
+   * @param gregorianDate gregorian date
+   * @return converted LunarDate, or empty if out of range
+   */
+  public static Optional<LunarDate> tryOfDay(LocalDate gregorianDate) {
+    long epochDay = gregorianDate.toEpochDay();
+    if (epochDay < LunarTable.MIN_EPOCH_DAY || epochDay > LunarTable.MAX_EPOCH_DAY) {
+      return Optional.empty();
+    }
+    return Optional.of(ofValidDay(gregorianDate, epochDay));
+  }
+
+  private static LunarDate ofValidDay(LocalDate gregorianDate, long epochDay) {
+    if (LunarDateCache.isEnabled()) {
+      LunarDate cached = LunarDateCache.get(epochDay);
+      return cached != null ? cached
+          : LunarDateCache.putIfAbsent(epochDay, new LunarDate(gregorianDate));
     }
     return new LunarDate(gregorianDate);
   }
 
+  /**
+   * get a instance by a gregorian epoch day
+   *
+   * @param epochDay gregorian epoch day, see {@link LocalDate#toEpochDay()}
+   * @return a already converted LunarDate
+   * @throws LunarException Exception with reason
+   */
+  public static LunarDate ofEpochDay(long epochDay) throws LunarException {
+    LunarMetrics metrics = LunarInstrumentation.metrics;
+    return metrics == null ? unmeteredOfEpochDay(epochDay) : LunarInstrumentation.metered(metrics,
+        LunarMetrics.Operation.OF_DAY, () -> unmeteredOfEpochDay(epochDay));
+  }
+
+  private static LunarDate unmeteredOfEpochDay(long epochDay) throws LunarException {
+    if (epochDay < LunarTable.MIN_EPOCH_DAY || epochDay > LunarTable.MAX_EPOCH_DAY) {
+      throw LunarException.stackless("out of Range");
+    }
+    LocalDate gregorianDate = LocalDate.ofEpochDay(epochDay);
+    return ofValidDay(gregorianDate, epochDay);
+  }
+
   /**
    * get a instance by lunar date(year,month,day)
-   * <p>attention:LeapType.LEAP_0 Equivalent to LeapType.LEAP_0</p>
+   * <p>attention:LeapType.LEAP_0 Equivalent to LeapType.NOT_LEAP, LeapType.LEAP_1 must be the
+   * leap month of the year</p>
    *
    * @param year     lunar year
    * @param month    lunar month
@@ -342,12 +458,35 @@ public class LunarDate implements Serializable {
    */
   public static LunarDate ofDay(int year, int month, int day, LeapType leapType)
       throws LunarException {
-    day -= 1;
-    if (year < MIN_LUNAR_YEAR || year > MAX_LUNAR_YEAR || month < 0 || month > MAX_LUNAR_MONTH
-        || day < 0 || day > MAX_DAY_PER_MONTH) {
-      throw new LunarException("out of Range");
+    LunarMetrics metrics = LunarInstrumentation.metrics;
+    return metrics == null ? unmeteredOfDay(year, month, day, leapType)
+        : LunarInstrumentation.metered(metrics, LunarMetrics.Operation.OF_LUNAR_DAY,
+            () -> unmeteredOfDay(year, month, day, leapType));
+  }
+
+  private static LunarDate unmeteredOfDay(int year, int month, int day, LeapType leapType)
+      throws LunarException {
+    int yearIndex = year - LunarTable.MIN_LUNAR_YEAR;
+    int monthIndex = checkedMonthIndex(yearIndex, month, leapType == LeapType.LEAP_1);
+    return ofIndex(yearIndex, monthIndex, checkedDay(yearIndex, monthIndex, day));
+  }
+
+  /**
+   * same as {@link #ofDay(int, int, int, LeapType)}, but never throws
+   *
+   * @param year     lunar year
+   * @param month    lunar month
+   * @param day      lunar day
+   * @param leapType leap type
+   * @return converted LunarDate, or empty if the lunar date is invalid
+   */
+  public static Optional<LunarDate> tryOfDay(int year, int month, int day, LeapType leapType) {
+    int yearIndex = year - LunarTable.MIN_LUNAR_YEAR;
+    int monthIndex = validMonthIndex(yearIndex, month, leapType == LeapType.LEAP_1);
+    if (monthIndex < 0 || !isValidDay(yearIndex, monthIndex, day)) {
+      return Optional.empty();
     }
-    return new LunarDate(year, month, day, leapType);
+    return Optional.of(ofIndex(yearIndex, monthIndex, day - 1));
   }
 
 
@@ -359,25 +498,31 @@ public class LunarDate implements Serializable {
    * @throws LunarException Exception with reason
    */
   public static LunarDate[] ofMonth(LocalDate gregorianDate) throws LunarException {
-    //gregorian month 31 days per a month
-    LunarDate[] lunarDates = new LunarDate[MAX_DAY_PER_MONTH + 1];
-    if (gregorianDate.getYear() < MIN_LUNAR_YEAR || gregorianDate.getYear() > MAX_LUNAR_YEAR) {
-      throw new LunarException("out of Range");
+    LunarMetrics metrics = LunarInstrumentation.metrics;
+    return metrics == null ? unmeteredOfMonth(gregorianDate) : LunarInstrumentation.metered(
+        metrics, LunarMetrics.Operation.OF_MONTH, () -> unmeteredOfMonth(gregorianDate));
+  }
+
+  private static LunarDate[] unmeteredOfMonth(LocalDate gregorianDate) throws LunarException {
+    long from = Math.max(gregorianDate.with(TemporalAdjusters.firstDayOfMonth()).toEpochDay(),
+        LunarTable.MIN_EPOCH_DAY);
+    long to = Math.min(gregorianDate.with(TemporalAdjusters.lastDayOfMonth()).toEpochDay(),
+        LunarTable.MAX_EPOCH_DAY) + 1;
+    if (from >= to) {
+      throw LunarException.stackless("out of Range");
     }
-    gregorianDate = gregorianDate.with(TemporalAdjusters.firstDayOfMonth());
-    LocalDate endDate = gregorianDate.with(TemporalAdjusters.lastDayOfMonth());
-    long between = ChronoUnit.DAYS.between(gregorianDate, endDate);
-    for (int i = 0; i <= between; i++) {
-      lunarDates[i] = new LunarDate(gregorianDate.plusDays(i));
+    LunarDate[] lunarDates = new LunarDate[(int) (to - from)];
+    RangeSpliterator spliterator = new RangeSpliterator(from, to, true);
+    for (int i = 0; i < lunarDates.length; i++) {
+      lunarDates[i] = spliterator.next();
     }
-    ArrayList<LunarDate> dates = new ArrayList<>(Arrays.asList(lunarDates));
-    dates.removeIf(Objects::isNull);
-    return dates.toArray(new LunarDate[0]);
+    return lunarDates;
   }
 
   /**
    * get a LunarDate array by lunar date, from first day of month to end day of month
-   * <p>attention:LeapType.LEAP_0 Equivalent to LeapType.LEAP_0</p>
+   * <p>attention:LeapType.LEAP_0 Equivalent to LeapType.NOT_LEAP, LeapType.LEAP_1 must be the
+   * leap month of the year</p>
    *
    * @param year     lunar date year
    * @param month    lunar date month
@@ -386,93 +531,102 @@ public class LunarDate implements Serializable {
    * @throws LunarException Exception with reason
    */
   public static LunarDate[] ofMonth(int year, int month, LeapType leapType) throws LunarException {
-    List<LunarDate> lunarDateList = new ArrayList<>();
-    if (year < MIN_LUNAR_YEAR || year > MAX_LUNAR_YEAR || month < 0 || month > MAX_LUNAR_MONTH) {
-      throw new LunarException("out of Range");
+    LunarMetrics metrics = LunarInstrumentation.metrics;
+    return metrics == null ? unmeteredOfMonth(year, month, leapType)
+        : LunarInstrumentation.metered(metrics, LunarMetrics.Operation.OF_LUNAR_MONTH,
+            () -> unmeteredOfMonth(year, month, leapType));
+  }
+
+  private static LunarDate[] unmeteredOfMonth(int year, int month, LeapType leapType)
+      throws LunarException {
+    int yearIndex = year - LunarTable.MIN_LUNAR_YEAR;
+    int monthIndex = checkedMonthIndex(yearIndex, month, leapType == LeapType.LEAP_1);
+    LunarDate[] lunarDates = new LunarDate[LunarTable.monthLength(yearIndex, monthIndex)];
+    for (int i = 0; i < lunarDates.length; i++) {
+      lunarDates[i] = ofIndex(yearIndex, monthIndex, i);
     }
-    int[] thisYearInfo = YEAR_INFO[year - MIN_LUNAR_YEAR];
-    int dayCount;
-    if (leapType == LeapType.LEAP_1) {
-      if (month == thisYearInfo[0]) {
-        dayCount = toBinaryInts(thisYearInfo[3])[month - 2] == 0 ? 29 : 30;
-      } else {
-        throw new LunarException("not leap month");
-      }
-    } else {
-      dayCount = toBinaryInts(thisYearInfo[3])[month - 1] == 0 ? 29 : 30;
-    }
-    for (int i = 0; i < dayCount; i++) {
-      lunarDateList.add(new LunarDate(year, month, i, leapType));
-    }
-
-    return lunarDateList.toArray(new LunarDate[0]);
-  }
-
-  private static int[] toBinaryInts(int res) {
-    int[] ints = new int[16];
-    for (int i = 16; i > 0; i--) {
-      ints[i - 1] = res % 2;
-      res = res / 2;
-    }
-    return ints;
-  }
-
-  private void updateLunarName(int[] thisYearInfo) {
-    dayName = "";
-    //dayName
-    if (day + 1 <= 10) {
-      dayName += DAY_HEADER[0];
-      dayName += NUMBER[day + 1];
-    } else if (day + 1 < 20) {
-      dayName += DAY_HEADER[1];
-      dayName += NUMBER[day + 1 - 10];
-    } else if (day + 1 == 20) {
-      dayName += NUMBER[2];
-      dayName += NUMBER[10];
-    } else if (day + 1 < 30) {
-      dayName += DAY_HEADER[2];
-      dayName += NUMBER[day + 1 - 20];
-    } else if (day + 1 == 30) {
-      dayName += NUMBER[3];
-      dayName += NUMBER[10];
-    } else {
-      dayName += DAY_HEADER[3];
-      dayName += NUMBER[day + 1 - 30];
-    }
-    //monthName
-    if (thisYearInfo[0] == 0) {
-      thisYearInfo[0] = 999;
-    }
-    if (month + 1 < thisYearInfo[0] + 1) {
-      monthName = MONTH_NAME[month];
-      leapType = LeapType.NOT_LEAP;
-    } else if (month + 1 == thisYearInfo[0]) {
-      leapType = LeapType.LEAP_0;
-    } else if (month + 1 == thisYearInfo[0] + 1) {//leap
-      monthName = LEAP_HEADER + MONTH_NAME[month - 1];
-      leapType = LeapType.LEAP_1;
-    } else {
-      monthName = MONTH_NAME[month - 1];
-      leapType = LeapType.NOT_LEAP;
-    }
-    //yearName
-    yearName = String.valueOf(year);
-    yearName = yearName.replace("0", YEAR_NAME[0]);
-    yearName = yearName.replace("1", YEAR_NAME[1]);
-    yearName = yearName.replace("2", YEAR_NAME[2]);
-    yearName = yearName.replace("3", YEAR_NAME[3]);
-    yearName = yearName.replace("4", YEAR_NAME[4]);
-    yearName = yearName.replace("5", YEAR_NAME[5]);
-    yearName = yearName.replace("6", YEAR_NAME[6]);
-    yearName = yearName.replace("7", YEAR_NAME[7]);
-    yearName = yearName.replace("8", YEAR_NAME[8]);
-    yearName = yearName.replace("9", YEAR_NAME[9]);
+    return lunarDates;
+  }
+
+  /**
+   * <p>get a lazy stream of LunarDate from a gregorian date (inclusive) to another (exclusive)
+   * <p>days are walked month by month, the stream splits evenly for parallel processing
+   *
+   * @param from first gregorian date, inclusive
+   * @param to   end gregorian date, exclusive
+   * @return ordered stream of LunarDate
+   * @throws LunarException Exception with reason
+   */
+  public static Stream<LunarDate> range(LocalDate from, LocalDate to) throws LunarException {
+    return StreamSupport.stream(rangeSpliterator(from.toEpochDay(), to.toEpochDay()), false);
+  }
+
+  /**
+   * fill packed lunar dates of gregorian days from a date (inclusive) to another (exclusive)
+   *
+   * @param from   first gregorian date, inclusive
+   * @param to     end gregorian date, exclusive
+   * @param packed destination of packed lunar dates, see {@link #toLunarPacked(long)}
+   * @param offset first index of destination to write
+   * @return count of written packed lunar dates
+   * @throws LunarException            Exception with reason
+   * @throws IndexOutOfBoundsException if offset is out of destination, or the days do not fit
+   */
+  public static int rangePacked(LocalDate from, LocalDate to, int[] packed, int offset)
+      throws LunarException {
+    RangeSpliterator spliterator = rangeSpliterator(from.toEpochDay(), to.toEpochDay());
+    int count = (int) spliterator.estimateSize();
+    if (offset < 0 || offset > packed.length) {
+      throw new IndexOutOfBoundsException(
+          "offset " + offset + " out of bounds for length " + packed.length);
+    }
+    if (count > packed.length - offset) {
+      throw new IndexOutOfBoundsException("last destination index " + ((long) offset + count)
+          + " out of bounds for length " + packed.length);
+    }
+    for (int i = offset; i < offset + count; i++) {
+      packed[i] = spliterator.nextPacked();
+    }
+    return count;
+  }
+
+  /**
+   * @return ordered stream of every supported day, new instances even if LunarDateCache is enabled
+   */
+  static Stream<LunarDate> all() {
+    return StreamSupport.stream(
+        new RangeSpliterator(LunarTable.MIN_EPOCH_DAY, LunarTable.MAX_EPOCH_DAY + 1L, false),
+        false);
+  }
+
+  private static RangeSpliterator rangeSpliterator(long from, long to) throws LunarException {
+    if (from > to) {
+      throw LunarException.stackless("end date is before start date");
+    }
+    if (from < LunarTable.MIN_EPOCH_DAY || to > LunarTable.MAX_EPOCH_DAY + 1) {
+      throw LunarException.stackless("out of Range");
+    }
+    return new RangeSpliterator(from, to, true);
+  }
+
+  private static LeapType leapTypeOf(int yearIndex, int monthIndex) {
+    if (LunarTable.isLeapMonth(yearIndex, monthIndex)) {
+      return LeapType.LEAP_1;
+    }
+    return LeapType.NOT_LEAP;
   }
 
   public LocalDate getGregorianDate() {
     return gregorianDate;
   }
 
+  /**
+   * @return gregorian epoch day, see {@link LocalDate#toEpochDay()}
+   */
+  public long toEpochDay() {
+    return epochDay;
+  }
+
   /**
    * set new gregorian date
    *
@@ -499,23 +653,141 @@ public class LunarDate implements Serializable {
     return ofDay(year, month, day, leapType);
   }
 
+  /**
+   * add days on lunar calendar
+   *
+   * @param days days to add, may be negative
+   * @return a already converted LunarDate
+   * @throws LunarException Exception with reason
+   */
+  public LunarDate plusDays(long days) throws LunarException {
+    if (days == 0) {
+      return this;
+    }
+    int yearIndex = year - LunarTable.MIN_LUNAR_YEAR;
+    if (days > 0 && days < LunarTable.monthLength(yearIndex, month) - day
+        || days < 0 && days >= -day) {
+      return ofIndex(yearIndex, month, day + (int) days);
+    }
+    if (days < LunarTable.MIN_EPOCH_DAY - epochDay || days > LunarTable.MAX_EPOCH_DAY - epochDay) {
+      throw LunarException.stackless("out of Range");
+    }
+    long target = epochDay + days;
+    return ofValidDay(LocalDate.ofEpochDay(target), target);
+  }
+
+  /**
+   * <p>add months on lunar calendar, leap months are counted, so one month after 二月 is 闰二月
+   * in a year with leap month 2, and one month after 闰二月 is 三月
+   * <p>day of month is clamped to the length of target month, 三十 becomes 廿九 in a short month
+   *
+   * @param months months to add, may be negative
+   * @return a already converted LunarDate
+   * @throws LunarException Exception with reason
+   */
+  public LunarDate plusMonths(long months) throws LunarException {
+    if (months == 0) {
+      return this;
+    }
+    long target = LunarTable.YEAR_MONTH_START[year - LunarTable.MIN_LUNAR_YEAR] + month + months;
+    if (target < 0 || target >= LunarTable.YEAR_MONTH_START[LunarTable.YEAR_MONTH_START.length
+        - 1]) {
+      throw LunarException.stackless("out of Range");
+    }
+    int targetYearIndex = LunarTable.yearIndexOfMonth((int) target);
+    return ofIndexClamped(targetYearIndex,
+        (int) target - LunarTable.YEAR_MONTH_START[targetYearIndex], day);
+  }
+
+  /**
+   * <p>add years on lunar calendar, the month stays the same, a leap month becomes the non leap
+   * month of the same number if target year has no such leap month
+   * <p>day of month is clamped to the length of target month
+   *
+   * @param years years to add, may be negative
+   * @return a already converted LunarDate
+   * @throws LunarException Exception with reason
+   */
+  public LunarDate plusYears(long years) throws LunarException {
+    if (years == 0) {
+      return this;
+    }
+    long targetYear = year + years;
+    if (targetYear < LunarTable.MIN_LUNAR_YEAR || targetYear > LunarTable.MAX_LUNAR_YEAR) {
+      throw LunarException.stackless("out of Range");
+    }
+    int targetYearIndex = (int) targetYear - LunarTable.MIN_LUNAR_YEAR;
+    int lunarMonth = LunarTable.monthOf(year - LunarTable.MIN_LUNAR_YEAR, month);
+    boolean leap = leapType == LeapType.LEAP_1
+        && LunarTable.LEAP_MONTH[targetYearIndex] == lunarMonth;
+    return ofIndexClamped(targetYearIndex,
+        LunarTable.monthIndexOf(targetYearIndex, lunarMonth, leap), day);
+  }
+
+  /**
+   * @param other another LunarDate
+   * @return days from this date to other date, negative if other date is earlier
+   */
+  public long daysUntil(LunarDate other) {
+    return (long) other.epochDay - epochDay;
+  }
+
   @Override
   public String toString() {
-    return String
-        .format("lunar:%s-%s-%s-%s-%s-%s(%s)\tgregorian:%s", yearName, monthName, dayName,
-            getYear(),
-            getMonth(), getDay(), getLeapType().toString(), gregorianDate.toString());
+    return TO_STRING_FORMATTER.formatTo(this, new StringBuilder(64)).append(gregorianDate)
+        .toString();
+  }
+
+  /**
+   * @param formatter formatter
+   * @return formatted string
+   */
+  public String format(LunarFormatter formatter) {
+    return formatter.format(this);
+  }
+
+  /**
+   * LunarDates are equal when they stand for the same day
+   *
+   * @param o other object
+   * @return whether o is a LunarDate of the same day
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof LunarDate)) {
+      return false;
+    }
+    return epochDay == ((LunarDate) o).epochDay;
+  }
+
+  @Override
+  public int hashCode() {
+    return epochDay;
+  }
+
+  /**
+   * compare by the day LunarDates stand for, earlier is less
+   *
+   * @param o other LunarDate
+   * @return comparison result
+   */
+  @Override
+  public int compareTo(LunarDate o) {
+    return Integer.compare(epochDay, o.epochDay);
   }
 
   public int getYear() {
     return year;
   }
 
+  /**
+   * @return lunar month, 1 to 12, a leap month has the same number as the month before it
+   */
   public int getMonth() {
-    if (leapType == LeapType.LEAP_1) {
-      return month;
-    }
-    return month + 1;
+    return LunarTable.monthOf(year - LunarTable.MIN_LUNAR_YEAR, month);
   }
 
   public LeapType getLeapType() {
@@ -526,6 +798,238 @@ public class LunarDate implements Serializable {
     return day + 1;
   }
 
+  /**
+   * @return chinese name of lunar year, such as 二零二零
+   */
+  public String getYearName() {
+    return YEAR_NAMES[year - LunarTable.MIN_LUNAR_YEAR];
+  }
+
+  /**
+   * @return chinese name of lunar month, leap month starts with 闰
+   */
+  public String getMonthName() {
+    if (leapType == LeapType.LEAP_1) {
+      return MONTH_NAMES[MONTH_NAME.length + month - 1];
+    }
+    int leapMonth = LunarTable.LEAP_MONTH[year - LunarTable.MIN_LUNAR_YEAR];
+    return MONTH_NAMES[leapMonth != 0 && month > leapMonth ? month - 1 : month];
+  }
+
+  /**
+   * @return chinese name of lunar day
+   */
+  public String getDayName() {
+    return DAY_NAMES[day];
+  }
+
+  /**
+   * @return index of stem and branch of lunar year, 0 for 甲子 to 59 for 癸亥
+   */
+  public int getYearSexagenary() {
+    return Math.floorMod(year - SEXAGENARY_YEAR_OFFSET, SEXAGENARY_CYCLE);
+  }
+
+  /**
+   * <p>month stem and branch follow lunar month, 正月 is 寅 month
+   * <p>leap month shares stem and branch with the month before it
+   *
+   * @return index of stem and branch of lunar month, 0 for 甲子 to 59 for 癸亥
+   */
+  public int getMonthSexagenary() {
+    int lunarMonth = LunarTable.monthOf(year - LunarTable.MIN_LUNAR_YEAR, month);
+    return Math.floorMod(12 * (year - SEXAGENARY_YEAR_OFFSET) + lunarMonth + 1,
+        SEXAGENARY_CYCLE);
+  }
+
+  /**
+   * @return index of stem and branch of the day, 0 for 甲子 to 59 for 癸亥
+   */
+  public int getDaySexagenary() {
+    return Math.floorMod(epochDay + SEXAGENARY_DAY_OFFSET, SEXAGENARY_CYCLE);
+  }
+
+  /**
+   * @return stem and branch of lunar year, such as 甲子
+   */
+  public String getYearStemBranch() {
+    return SEXAGENARY_NAMES[getYearSexagenary()];
+  }
+
+  /**
+   * @return stem and branch of lunar month, see {@link #getMonthSexagenary()}
+   */
+  public String getMonthStemBranch() {
+    return SEXAGENARY_NAMES[getMonthSexagenary()];
+  }
+
+  /**
+   * @return stem and branch of the day
+   */
+  public String getDayStemBranch() {
+    return SEXAGENARY_NAMES[getDaySexagenary()];
+  }
+
+  /**
+   * @return chinese zodiac of lunar year, such as 鼠
+   */
+  public String getZodiac() {
+    return ZODIAC[getYearSexagenary() % ZODIAC.length];
+  }
+
+  /**
+   * serialize as {@link SerializationProxy}, which only writes the epoch day
+   *
+   * @return serialization proxy
+   */
+  private Object writeReplace() {
+    return new SerializationProxy(epochDay);
+  }
+
+  private void readObject(ObjectInputStream in) throws InvalidObjectException {
+    throw new InvalidObjectException("Deserialization via serialization proxy");
+  }
+
+  /**
+   * serialized form of LunarDate, 4 bytes of epoch day per instance
+   */
+  private static final class SerializationProxy implements Serializable {
+
+    private static final long serialVersionUID = 0x4c756e617244L;
+    private final int epochDay;
+
+    private SerializationProxy(int epochDay) {
+      this.epochDay = epochDay;
+    }
+
+    private Object readResolve() throws InvalidObjectException {
+      try {
+        return ofEpochDay(epochDay);
+      } catch (LunarException e) {
+        InvalidObjectException exception = new InvalidObjectException(e.getMessage());
+        exception.initCause(e);
+        throw exception;
+      }
+    }
+  }
+
+  /**
+   * walk gregorian days in supported range, keeps the lunar year and month of current day, so
+   * every step is an increment instead of a new lookup
+   */
+  private static final class RangeSpliterator implements Spliterator<LunarDate> {
+
+    /**
+     * ranges shorter than this are not split
+     */
+    private static final long MIN_SPLIT_SIZE = 64;
+    private final long end;
+    /**
+     * whether dates go through LunarDateCache, false only to fill the cache itself
+     */
+    private final boolean canonical;
+    private long epochDay;
+    private int yearIndex;
+    private int monthIndex;
+    private int day;
+    private long monthEnd;
+
+    private RangeSpliterator(long from, long end, boolean canonical) {
+      this.end = end;
+      this.canonical = canonical;
+      seek(from);
+    }
+
+    private void seek(long epochDay) {
+      this.epochDay = epochDay;
+      if (epochDay >= end) {
+        return;
+      }
+      yearIndex = LunarTable.yearIndexOf((int) epochDay);
+      int dayOfYear = (int) epochDay - LunarTable.YEAR_START_EPOCH_DAY[yearIndex];
+      monthIndex = LunarTable.monthIndexOf(yearIndex, dayOfYear);
+      day = dayOfYear - LunarTable.monthOffset(yearIndex, monthIndex);
+      monthEnd = LunarTable.YEAR_START_EPOCH_DAY[yearIndex]
+          + LunarTable.monthOffset(yearIndex, monthIndex + 1);
+    }
+
+    /**
+     * move to next day, there must be a remaining day
+     */
+    private void step() {
+      epochDay++;
+      if (epochDay < monthEnd || epochDay >= end) {
+        day++;
+        return;
+      }
+      day = 0;
+      if (epochDay == LunarTable.YEAR_START_EPOCH_DAY[yearIndex + 1]) {
+        yearIndex++;
+        monthIndex = 0;
+      } else {
+        monthIndex++;
+      }
+      monthEnd = LunarTable.YEAR_START_EPOCH_DAY[yearIndex]
+          + LunarTable.monthOffset(yearIndex, monthIndex + 1);
+    }
+
+    private LunarDate next() {
+      LunarDate lunarDate = canonical ? ofIndex(yearIndex, monthIndex, day)
+          : new LunarDate(LocalDate.ofEpochDay(epochDay), yearIndex, monthIndex, day);
+      step();
+      return lunarDate;
+    }
+
+    private int nextPacked() {
+      int packed = pack(yearIndex, monthIndex, day);
+      step();
+      return packed;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super LunarDate> action) {
+      if (epochDay >= end) {
+        return false;
+      }
+      action.accept(next());
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super LunarDate> action) {
+      while (epochDay < end) {
+        action.accept(next());
+      }
+    }
+
+    @Override
+    public Spliterator<LunarDate> trySplit() {
+      long size = end - epochDay;
+      if (size < MIN_SPLIT_SIZE) {
+        return null;
+      }
+      long middle = epochDay + size / 2;
+      RangeSpliterator prefix = new RangeSpliterator(epochDay, middle, canonical);
+      seek(middle);
+      return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+      return end - epochDay;
+    }
+
+    @Override
+    public int characteristics() {
+      return ORDERED | DISTINCT | SORTED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+    }
+
+    @Override
+    public Comparator<? super LunarDate> getComparator() {
+      return null;
+    }
+  }
+
   public enum LeapType {
     NOT_LEAP, LEAP_0, LEAP_1;
 
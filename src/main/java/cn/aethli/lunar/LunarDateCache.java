@@ -0,0 +1,137 @@
+package cn.aethli.lunar;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>optional canonical instance mode of {@link LunarDate}
+ * <p>when enabled, {@link LunarDate#ofDay(java.time.LocalDate)} and
+ * {@link LunarDate#ofDay(int, int, int, LunarDate.LeapType)} return shared instances, one per
+ * supported day. The table covers the whole supported range (about 73 thousand days), it is
+ * filled lazily without locking, or at once by {@link #preload()}
+ *
+ * @author selcarpa
+ **/
+public final class LunarDateCache {
+
+  /**
+   * estimated bytes of an array header and a reference, with compressed oops
+   */
+  private static final int ARRAY_HEADER_BYTES = 16;
+  private static final int REFERENCE_BYTES = 4;
+  /**
+   * estimated bytes of a cached LunarDate and its gregorian LocalDate, with compressed oops
+   */
+  private static final int INSTANCE_BYTES = 64;
+  private static final LongAdder HIT = new LongAdder();
+  private static final LongAdder MISS = new LongAdder();
+  private static final LongAdder SIZE = new LongAdder();
+  private static volatile AtomicReferenceArray<LunarDate> table;
+
+  private LunarDateCache() {
+  }
+
+  /**
+   * turn on canonical instance mode, it is a no-op if already enabled
+   */
+  public static synchronized void enable() {
+    if (table == null) {
+      SIZE.reset();
+      table = new AtomicReferenceArray<>(
+          LunarTable.MAX_EPOCH_DAY - LunarTable.MIN_EPOCH_DAY + 1);
+    }
+  }
+
+  /**
+   * turn off canonical instance mode and release cached instances
+   */
+  public static synchronized void disable() {
+    table = null;
+    SIZE.reset();
+  }
+
+  public static boolean isEnabled() {
+    return table != null;
+  }
+
+  /**
+   * enable canonical instance mode and convert every supported day into the table
+   */
+  public static void preload() {
+    enable();
+    LunarDate.all().forEach(
+        lunarDate -> putIfAbsent(lunarDate.getGregorianDate().toEpochDay(), lunarDate));
+  }
+
+  public static long hitCount() {
+    return HIT.sum();
+  }
+
+  public static long missCount() {
+    return MISS.sum();
+  }
+
+  public static void resetCounts() {
+    HIT.reset();
+    MISS.reset();
+  }
+
+  /**
+   * @return count of cached instances
+   */
+  public static long size() {
+    return SIZE.sum();
+  }
+
+  /**
+   * @return estimated heap bytes held by the table and cached instances, 0 when disabled
+   */
+  public static long footprint() {
+    AtomicReferenceArray<LunarDate> table = LunarDateCache.table;
+    if (table == null) {
+      return 0;
+    }
+    return ARRAY_HEADER_BYTES + (long) REFERENCE_BYTES * table.length()
+        + INSTANCE_BYTES * SIZE.sum();
+  }
+
+  /**
+   * @param epochDay epoch day in supported range
+   * @return cached instance, or null if not cached or disabled
+   */
+  static LunarDate get(long epochDay) {
+    AtomicReferenceArray<LunarDate> table = LunarDateCache.table;
+    if (table == null) {
+      return null;
+    }
+    LunarDate lunarDate = table.get((int) epochDay - LunarTable.MIN_EPOCH_DAY);
+    if (lunarDate == null) {
+      MISS.increment();
+    } else {
+      HIT.increment();
+    }
+    LunarMetrics metrics = LunarInstrumentation.metrics;
+    if (metrics != null) {
+      metrics.cacheAccess(lunarDate != null);
+    }
+    return lunarDate;
+  }
+
+  /**
+   * @param epochDay  epoch day in supported range
+   * @param lunarDate converted instance of the epoch day
+   * @return the instance already cached by another thread, or the given instance
+   */
+  static LunarDate putIfAbsent(long epochDay, LunarDate lunarDate) {
+    AtomicReferenceArray<LunarDate> table = LunarDateCache.table;
+    if (table == null) {
+      return lunarDate;
+    }
+    int index = (int) epochDay - LunarTable.MIN_EPOCH_DAY;
+    if (table.compareAndSet(index, null, lunarDate)) {
+      SIZE.increment();
+      return lunarDate;
+    }
+    return table.get(index);
+  }
+}
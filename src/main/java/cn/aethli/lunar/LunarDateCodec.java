@@ -0,0 +1,104 @@
+package cn.aethli.lunar;
+
+import cn.aethli.lunar.exception.LunarException;
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * <p>binary codec of LunarDate arrays, for caches and network payloads
+ * <p>layout: an int count, then one int per date. LunarDate is written as its gregorian epoch
+ * day, packed lunar date is written as is, see {@link LunarDate#toLunarPacked(long)}. Ints use
+ * the byte order of the buffer. Nothing is written if the destination is too small, and nothing
+ * is consumed if the count or a date is invalid
+ *
+ * @author selcarpa
+ **/
+public final class LunarDateCodec {
+
+  private LunarDateCodec() {
+  }
+
+  /**
+   * @param count count of dates
+   * @return bytes needed to encode the dates
+   */
+  public static int encodedSize(int count) {
+    return Integer.BYTES * (count + 1);
+  }
+
+  /**
+   * @param lunarDates dates to encode
+   * @param dst        destination buffer, position moves after the encoded dates
+   * @throws BufferOverflowException if remaining of destination is less than
+   *                                 {@link #encodedSize(int)}
+   */
+  public static void encode(LunarDate[] lunarDates, ByteBuffer dst) {
+    checkRemaining(dst, lunarDates.length);
+    dst.putInt(lunarDates.length);
+    for (LunarDate lunarDate : lunarDates) {
+      dst.putInt((int) lunarDate.toEpochDay());
+    }
+  }
+
+  /**
+   * @param src source buffer, position moves after the decoded dates, or is not changed on error
+   * @return decoded dates
+   * @throws LunarException Exception with reason
+   */
+  public static LunarDate[] decode(ByteBuffer src) throws LunarException {
+    int position = src.position();
+    LunarDate[] lunarDates = new LunarDate[checkCount(src)];
+    try {
+      for (int i = 0; i < lunarDates.length; i++) {
+        lunarDates[i] = LunarDate.ofEpochDay(src.getInt());
+      }
+    } catch (LunarException e) {
+      ((Buffer) src).position(position);
+      throw e;
+    }
+    return lunarDates;
+  }
+
+  /**
+   * @param packed packed lunar dates to encode
+   * @param dst    destination buffer, position moves after the encoded dates
+   * @throws BufferOverflowException if remaining of destination is less than
+   *                                 {@link #encodedSize(int)}
+   */
+  public static void encodePacked(int[] packed, ByteBuffer dst) {
+    checkRemaining(dst, packed.length);
+    dst.putInt(packed.length);
+    dst.asIntBuffer().put(packed);
+    // through Buffer, ByteBuffer.position(int) of JDK 9+ does not exist on Java 8
+    ((Buffer) dst).position(dst.position() + Integer.BYTES * packed.length);
+  }
+
+  /**
+   * @param src source buffer, position moves after the decoded dates
+   * @return packed lunar dates, not checked
+   * @throws LunarException Exception with reason
+   */
+  public static int[] decodePacked(ByteBuffer src) throws LunarException {
+    int[] packed = new int[checkCount(src)];
+    src.asIntBuffer().get(packed);
+    ((Buffer) src).position(src.position() + Integer.BYTES * packed.length);
+    return packed;
+  }
+
+  private static void checkRemaining(ByteBuffer dst, int count) {
+    if (count > dst.remaining() / Integer.BYTES - 1) {
+      throw new BufferOverflowException();
+    }
+  }
+
+  private static int checkCount(ByteBuffer src) throws LunarException {
+    int position = src.position();
+    int count = src.getInt();
+    if (count < 0 || count > src.remaining() / Integer.BYTES) {
+      ((Buffer) src).position(position);
+      throw LunarException.stackless("invalid count " + count);
+    }
+    return count;
+  }
+}
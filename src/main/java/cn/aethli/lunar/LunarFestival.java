@@ -0,0 +1,159 @@
+package cn.aethli.lunar;
+
+import cn.aethli.lunar.exception.LunarException;
+import java.time.LocalDate;
+
+/**
+ * <p>traditional lunar festivals, in the order of a lunar year
+ * <p>festivals fall in regular months, 除夕 is the last day of 腊月, 29 or 30 by the year. Dates of
+ * all festivals in the supported range are kept in a sorted epoch day index built on first use,
+ * lookups are binary searches
+ *
+ * @author selcarpa
+ **/
+public enum LunarFestival {
+  CHUN_JIE("春节", 1, 1), YUAN_XIAO("元宵", 1, 15), LONG_TAI_TOU("龙抬头", 2, 2),
+  SHANG_SI("上巳", 3, 3), DUAN_WU("端午", 5, 5), QI_XI("七夕", 7, 7), ZHONG_YUAN("中元", 7, 15),
+  ZHONG_QIU("中秋", 8, 15), CHONG_YANG("重阳", 9, 9), HAN_YI("寒衣", 10, 1),
+  XIA_YUAN("下元", 10, 15), LA_BA("腊八", 12, 8), XIAO_NIAN("小年", 12, 23),
+  CHU_XI("除夕", 12, LunarFestival.LAST_DAY);
+
+  private static final int LAST_DAY = 0;
+  private static final LunarFestival[] VALUES = values();
+  private final String name;
+  private final int month;
+  private final int day;
+
+  LunarFestival(String name, int month, int day) {
+    this.name = name;
+    this.month = month;
+    this.day = day;
+  }
+
+  /**
+   * @param date gregorian date in supported range
+   * @return festival on the date, or null
+   * @throws LunarException Exception with reason
+   */
+  public static LunarFestival of(LocalDate date) throws LunarException {
+    int index = Index.indexOf(checkedEpochDay(date));
+    return index >= 0 && Index.EPOCH_DAY[index] == date.toEpochDay()
+        ? VALUES[index % VALUES.length] : null;
+  }
+
+  /**
+   * @param date gregorian date in supported range
+   * @return the first festival after the date, or null after the last one
+   * @throws LunarException Exception with reason
+   */
+  public static LunarFestival after(LocalDate date) throws LunarException {
+    int index = Index.indexOf(checkedEpochDay(date)) + 1;
+    return index < Index.EPOCH_DAY.length ? VALUES[index % VALUES.length] : null;
+  }
+
+  /**
+   * @param date gregorian date in supported range
+   * @return date of the festival returned by {@link #after(LocalDate)}, or null after the last
+   * one
+   * @throws LunarException Exception with reason
+   */
+  public static LocalDate afterDate(LocalDate date) throws LunarException {
+    int index = Index.indexOf(checkedEpochDay(date)) + 1;
+    return index < Index.EPOCH_DAY.length ? LocalDate.ofEpochDay(Index.EPOCH_DAY[index]) : null;
+  }
+
+  private static long checkedEpochDay(LocalDate date) throws LunarException {
+    long epochDay = date.toEpochDay();
+    if (epochDay < LunarTable.MIN_EPOCH_DAY || epochDay > LunarTable.MAX_EPOCH_DAY) {
+      throw LunarException.stackless("out of Range");
+    }
+    return epochDay;
+  }
+
+  /**
+   * @return chinese name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return lunar month
+   */
+  public int getMonth() {
+    return month;
+  }
+
+  /**
+   * @param lunarYear lunar year
+   * @return gregorian date of the festival in the lunar year
+   * @throws LunarException Exception with reason
+   */
+  public LocalDate getDate(int lunarYear) throws LunarException {
+    if (lunarYear < LunarTable.MIN_LUNAR_YEAR || lunarYear > LunarTable.MAX_LUNAR_YEAR) {
+      throw LunarException.stackless("out of Range");
+    }
+    return LocalDate.ofEpochDay(epochDayOf(lunarYear - LunarTable.MIN_LUNAR_YEAR));
+  }
+
+  /**
+   * @param date gregorian date in supported range
+   * @return date of the first occurrence of this festival after the date
+   * @throws LunarException Exception with reason, also if there is no occurrence in range
+   */
+  public LocalDate next(LocalDate date) throws LunarException {
+    int yearIndex = LunarTable.yearIndexOf((int) checkedEpochDay(date));
+    int epochDay = epochDayOf(yearIndex);
+    if (epochDay <= date.toEpochDay()) {
+      if (++yearIndex == LunarTable.YEAR_COUNT) {
+        throw LunarException.stackless("out of Range");
+      }
+      epochDay = epochDayOf(yearIndex);
+    }
+    return LocalDate.ofEpochDay(epochDay);
+  }
+
+  /**
+   * @param yearIndex index of lunar year
+   * @return epoch day of the festival in the year
+   */
+  private int epochDayOf(int yearIndex) {
+    int monthIndex = LunarTable.monthIndexOf(yearIndex, month, false);
+    int dayOfMonth = day == LAST_DAY ? LunarTable.monthLength(yearIndex, monthIndex) : day;
+    return LunarTable.YEAR_START_EPOCH_DAY[yearIndex]
+        + LunarTable.monthOffset(yearIndex, monthIndex) + dayOfMonth - 1;
+  }
+
+  /**
+   * epoch days of every festival, festivals of a lunar year in order, year by year, so it is
+   * sorted and a festival is the index modulo count of festivals
+   */
+  private static final class Index {
+
+    static final int[] EPOCH_DAY = new int[LunarTable.YEAR_COUNT * VALUES.length];
+
+    static {
+      for (int i = 0; i < EPOCH_DAY.length; i++) {
+        EPOCH_DAY[i] = VALUES[i % VALUES.length].epochDayOf(i / VALUES.length);
+      }
+    }
+
+    /**
+     * @param epochDay epoch day
+     * @return index of the last festival on or before the day, -1 if none
+     */
+    static int indexOf(long epochDay) {
+      int low = -1;
+      int high = EPOCH_DAY.length - 1;
+      while (low < high) {
+        int mid = (low + high + 1) >>> 1;
+        if (EPOCH_DAY[mid] <= epochDay) {
+          low = mid;
+        } else {
+          high = mid - 1;
+        }
+      }
+      return low;
+    }
+  }
+}
@@ -0,0 +1,125 @@
+package cn.aethli.lunar;
+
+import cn.aethli.lunar.exception.LunarException;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * <p>{@link LunarMetrics} backed by JDK Flight Recorder, commits a {@value #CONVERSION} event per
+ * successful call and a {@value #REJECTION} event per rejected call, cache accesses are not
+ * recorded
+ * <p>jdk.jfr is in JDK 11+ and 8u262+. This class only touches it after
+ * {@link #isAvailable()}, so it can be loaded on any JVM. Events are committed only while a
+ * recording enables them, for example
+ * <p>      java -XX:StartFlightRecording:filename=lunar.jfr ...
+ * <p>this class is compiled without --release 8, the jdk.jfr API is not in the Java 8 API
+ *
+ * @author selcarpa
+ **/
+public final class LunarFlightRecorder {
+
+  /**
+   * name of the conversion event
+   */
+  public static final String CONVERSION = "cn.aethli.lunar.Conversion";
+  /**
+   * name of the rejection event
+   */
+  public static final String REJECTION = "cn.aethli.lunar.Rejection";
+  private static final String FLIGHT_RECORDER = "jdk.jfr.FlightRecorder";
+
+  private LunarFlightRecorder() {
+  }
+
+  /**
+   * @return whether jdk.jfr is present and Flight Recorder is supported by this JVM
+   */
+  public static boolean isAvailable() {
+    try {
+      Class.forName(FLIGHT_RECORDER, false, LunarFlightRecorder.class.getClassLoader());
+    } catch (ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+    return Recorder.isSupported();
+  }
+
+  /**
+   * install Flight Recorder metrics by {@link LunarInstrumentation#install(LunarMetrics)} if
+   * available, replacing the installed one
+   *
+   * @return whether it is installed
+   */
+  public static boolean install() {
+    if (!isAvailable()) {
+      return false;
+    }
+    LunarInstrumentation.install(new Recorder());
+    return true;
+  }
+
+  /**
+   * references jdk.jfr, loaded only when jdk.jfr is present
+   */
+  private static final class Recorder implements LunarMetrics {
+
+    static boolean isSupported() {
+      return FlightRecorder.isAvailable();
+    }
+
+    @Override
+    public void conversion(Operation operation, long nanos) {
+      ConversionEvent event = new ConversionEvent();
+      if (event.shouldCommit()) {
+        event.operation = operation.name();
+        event.latency = nanos;
+        event.commit();
+      }
+    }
+
+    @Override
+    public void rejection(Operation operation, long nanos, LunarException exception) {
+      RejectionEvent event = new RejectionEvent();
+      if (event.shouldCommit()) {
+        event.operation = operation.name();
+        event.latency = nanos;
+        event.message = exception.getMessage();
+        event.commit();
+      }
+    }
+  }
+
+  @Name(CONVERSION)
+  @Label("Lunar Conversion")
+  @Description("a successful call of a lunar date entry point")
+  @Category("Lunar Date")
+  @StackTrace(false)
+  static final class ConversionEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+    @Label("Latency")
+    @Timespan(Timespan.NANOSECONDS)
+    long latency;
+  }
+
+  @Name(REJECTION)
+  @Label("Lunar Rejection")
+  @Description("a call of a lunar date entry point rejected by a LunarException")
+  @Category("Lunar Date")
+  static final class RejectionEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+    @Label("Latency")
+    @Timespan(Timespan.NANOSECONDS)
+    long latency;
+    @Label("Message")
+    String message;
+  }
+}
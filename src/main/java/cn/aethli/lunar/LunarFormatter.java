@@ -0,0 +1,262 @@
+package cn.aethli.lunar;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>pattern based formatter of {@link LunarDate}, the pattern is compiled once, formatting
+ * appends straight into the destination without intermediate strings. Immutable and thread-safe
+ * <p>pattern letters:
+ * <p>      Letter   Meaning                  Examples
+ * <p>      y        lunar year               y:2024 yy:24 yyyy:2024
+ * <p>      N        chinese year name        二零二四
+ * <p>      M        lunar month              M:2 MM:02 MMM:闰二月
+ * <p>      L        leap month mark          L:L LL:闰 LLL:闰月/非闰月, empty if not leap
+ * <p>      d        lunar day                d:5 dd:05 ddd:初五
+ * <p>      G        stem and branch of year  甲辰
+ * <p>      H        stem and branch of month 丁卯
+ * <p>      E        stem and branch of day   甲子
+ * <p>      Z        chinese zodiac           龙
+ * <p>text in single quotes is literal, two single quotes stand for one, other ascii letters are
+ * reserved, any other character is literal. For example "农历yyyy年MMMddd" gives 农历2024年闰二月初五
+ * and "yyyy-MML-dd" gives 2024-02L-05
+ *
+ * @author selcarpa
+ **/
+public final class LunarFormatter {
+
+  private static final int LITERAL = 0;
+  private static final int YEAR = 1;
+  private static final int YEAR_NAME = 2;
+  private static final int MONTH = 3;
+  private static final int LEAP = 4;
+  private static final int DAY = 5;
+  private static final int YEAR_STEM_BRANCH = 6;
+  private static final int MONTH_STEM_BRANCH = 7;
+  private static final int DAY_STEM_BRANCH = 8;
+  private static final int ZODIAC = 9;
+  private static final int[] POWERS_OF_TEN = {1, 10, 100, 1000, 10000, 100000, 1000000,
+      10000000, 100000000, 1000000000};
+
+  private final String pattern;
+  private final Element[] elements;
+
+  private LunarFormatter(String pattern, Element[] elements) {
+    this.pattern = pattern;
+    this.elements = elements;
+  }
+
+  /**
+   * compile a pattern
+   *
+   * @param pattern pattern, see {@link LunarFormatter}
+   * @return formatter of the pattern
+   * @throws IllegalArgumentException if the pattern is invalid
+   */
+  public static LunarFormatter ofPattern(String pattern) {
+    List<Element> elements = new ArrayList<>();
+    StringBuilder literal = new StringBuilder();
+    int length = pattern.length();
+    int i = 0;
+    while (i < length) {
+      char c = pattern.charAt(i);
+      if (c == '\'') {
+        int end = i + 1;
+        while (true) {
+          if (end >= length) {
+            throw new IllegalArgumentException("unterminated quote at " + i + ": " + pattern);
+          }
+          if (pattern.charAt(end) == '\'') {
+            if (end + 1 < length && pattern.charAt(end + 1) == '\'') {
+              literal.append('\'');
+              end += 2;
+              continue;
+            }
+            break;
+          }
+          literal.append(pattern.charAt(end++));
+        }
+        if (end == i + 1) {
+          literal.append('\'');
+        }
+        i = end + 1;
+        continue;
+      }
+      if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z')) {
+        literal.append(c);
+        i++;
+        continue;
+      }
+      int count = 1;
+      while (i + count < length && pattern.charAt(i + count) == c) {
+        count++;
+      }
+      if (literal.length() > 0) {
+        elements.add(new Element(LITERAL, 0, literal.toString()));
+        literal.setLength(0);
+      }
+      elements.add(new Element(kindOf(c, count, pattern), count, null));
+      i += count;
+    }
+    if (literal.length() > 0) {
+      elements.add(new Element(LITERAL, 0, literal.toString()));
+    }
+    return new LunarFormatter(pattern, elements.toArray(new Element[0]));
+  }
+
+  private static int kindOf(char letter, int count, String pattern) {
+    switch (letter) {
+      case 'y':
+        return YEAR;
+      case 'N':
+        return YEAR_NAME;
+      case 'M':
+        return MONTH;
+      case 'L':
+        if (count > 3) {
+          break;
+        }
+        return LEAP;
+      case 'd':
+        return DAY;
+      case 'G':
+        return YEAR_STEM_BRANCH;
+      case 'H':
+        return MONTH_STEM_BRANCH;
+      case 'E':
+        return DAY_STEM_BRANCH;
+      case 'Z':
+        return ZODIAC;
+      default:
+        break;
+    }
+    throw new IllegalArgumentException("unknown pattern letter " + letter + " x" + count + ": "
+        + pattern);
+  }
+
+  /**
+   * @param lunarDate date to format
+   * @return formatted string
+   */
+  public String format(LunarDate lunarDate) {
+    return formatTo(lunarDate, new StringBuilder(32)).toString();
+  }
+
+  /**
+   * @param lunarDate date to format
+   * @param builder   destination
+   * @return the destination
+   */
+  public StringBuilder formatTo(LunarDate lunarDate, StringBuilder builder) {
+    try {
+      formatTo(lunarDate, (Appendable) builder);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return builder;
+  }
+
+  /**
+   * @param lunarDate  date to format
+   * @param appendable destination
+   * @throws IOException if the destination fails
+   */
+  public void formatTo(LunarDate lunarDate, Appendable appendable) throws IOException {
+    for (Element element : elements) {
+      int width = element.width;
+      switch (element.kind) {
+        case LITERAL:
+          appendable.append(element.literal);
+          break;
+        case YEAR:
+          if (width == 2) {
+            appendNumber(appendable, lunarDate.getYear() % 100, 2);
+          } else {
+            appendNumber(appendable, lunarDate.getYear(), width);
+          }
+          break;
+        case YEAR_NAME:
+          appendable.append(lunarDate.getYearName());
+          break;
+        case MONTH:
+          if (width >= 3) {
+            appendable.append(lunarDate.getMonthName());
+          } else {
+            appendNumber(appendable, lunarDate.getMonth(), width);
+          }
+          break;
+        case LEAP:
+          if (width == 3) {
+            appendable.append(lunarDate.getLeapType().toString());
+          } else if (lunarDate.getLeapType() == LunarDate.LeapType.LEAP_1) {
+            appendable.append(width == 1 ? "L" : "闰");
+          }
+          break;
+        case DAY:
+          if (width >= 3) {
+            appendable.append(lunarDate.getDayName());
+          } else {
+            appendNumber(appendable, lunarDate.getDay(), width);
+          }
+          break;
+        case YEAR_STEM_BRANCH:
+          appendable.append(lunarDate.getYearStemBranch());
+          break;
+        case MONTH_STEM_BRANCH:
+          appendable.append(lunarDate.getMonthStemBranch());
+          break;
+        case DAY_STEM_BRANCH:
+          appendable.append(lunarDate.getDayStemBranch());
+          break;
+        case ZODIAC:
+          appendable.append(lunarDate.getZodiac());
+          break;
+        default:
+          throw new IllegalStateException("unknown element " + element.kind);
+      }
+    }
+  }
+
+  /**
+   * append a non-negative number digit by digit, padded with 0 to width
+   */
+  private static void appendNumber(Appendable appendable, int value, int width)
+      throws IOException {
+    int digits = 1;
+    while (digits < POWERS_OF_TEN.length && value >= POWERS_OF_TEN[digits]) {
+      digits++;
+    }
+    for (int i = digits; i < width; i++) {
+      appendable.append('0');
+    }
+    for (int i = digits - 1; i >= 0; i--) {
+      appendable.append((char) ('0' + value / POWERS_OF_TEN[i] % 10));
+    }
+  }
+
+  /**
+   * @return the pattern
+   */
+  @Override
+  public String toString() {
+    return pattern;
+  }
+
+  /**
+   * compiled pattern element, a literal or a field with width
+   */
+  private static final class Element {
+
+    private final int kind;
+    private final int width;
+    private final String literal;
+
+    private Element(int kind, int width, String literal) {
+      this.kind = kind;
+      this.width = width;
+      this.literal = literal;
+    }
+  }
+}
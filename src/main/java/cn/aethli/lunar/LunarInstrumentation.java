@@ -0,0 +1,95 @@
+package cn.aethli.lunar;
+
+import cn.aethli.lunar.exception.LunarException;
+
+/**
+ * <p>switch of instrumentation, holds the installed {@link LunarMetrics}
+ * <p>when nothing is installed, an entry point only reads a volatile field and checks it for null,
+ * no clock is read and no object is created
+ *
+ * @author selcarpa
+ **/
+public final class LunarInstrumentation {
+
+  /**
+   * installed metrics, null when disabled
+   */
+  static volatile LunarMetrics metrics;
+
+  private LunarInstrumentation() {
+  }
+
+  /**
+   * install metrics, replacing the installed one
+   *
+   * @param metrics metrics to receive events
+   */
+  public static void install(LunarMetrics metrics) {
+    if (metrics == null) {
+      throw new NullPointerException("metrics");
+    }
+    LunarInstrumentation.metrics = metrics;
+  }
+
+  /**
+   * remove installed metrics, it is a no-op if none is installed
+   */
+  public static void uninstall() {
+    metrics = null;
+  }
+
+  /**
+   * @return installed metrics, or null
+   */
+  public static LunarMetrics installed() {
+    return metrics;
+  }
+
+  /**
+   * time a call and report it to metrics
+   *
+   * @param metrics   installed metrics
+   * @param operation entry point
+   * @param call      the uninstrumented call
+   * @return result of the call
+   * @throws LunarException Exception with reason, reported as a rejection
+   */
+  static <T> T metered(LunarMetrics metrics, LunarMetrics.Operation operation, Call<T> call)
+      throws LunarException {
+    long start = System.nanoTime();
+    T result;
+    try {
+      result = call.call();
+    } catch (LunarException e) {
+      metrics.rejection(operation, System.nanoTime() - start, e);
+      throw e;
+    }
+    metrics.conversion(operation, System.nanoTime() - start);
+    return result;
+  }
+
+  /**
+   * report a rejection to metrics if installed
+   *
+   * @param metrics   installed metrics, or null
+   * @param operation entry point
+   * @param start     {@link System#nanoTime()} at the start of the call
+   * @param exception the exception to be thrown
+   * @return the exception
+   */
+  static LunarException rejected(LunarMetrics metrics, LunarMetrics.Operation operation,
+      long start, LunarException exception) {
+    if (metrics != null) {
+      metrics.rejection(operation, System.nanoTime() - start, exception);
+    }
+    return exception;
+  }
+
+  /**
+   * an uninstrumented call of an entry point
+   */
+  interface Call<T> {
+
+    T call() throws LunarException;
+  }
+}
@@ -0,0 +1,76 @@
+package cn.aethli.lunar;
+
+import cn.aethli.lunar.exception.LunarException;
+
+/**
+ * <p>instrumentation SPI, receives conversions, rejections and cache accesses of hot entry points
+ * <p>install an implementation by {@link LunarInstrumentation#install(LunarMetrics)}, nothing is
+ * timed or reported when none is installed. Methods are called on the converting thread, so they
+ * must be thread-safe and cheap, for example recording into a Micrometer Timer.
+ * {@link LunarStats} and {@link LunarFlightRecorder} are ready-made implementations
+ *
+ * @author selcarpa
+ **/
+public interface LunarMetrics {
+
+  /**
+   * a successful call of an entry point
+   *
+   * @param operation entry point
+   * @param nanos     latency in nanoseconds
+   */
+  default void conversion(Operation operation, long nanos) {
+  }
+
+  /**
+   * a call of an entry point rejected by a LunarException
+   *
+   * @param operation entry point
+   * @param nanos     latency in nanoseconds
+   * @param exception the exception to be thrown
+   */
+  default void rejection(Operation operation, long nanos, LunarException exception) {
+  }
+
+  /**
+   * a lookup of {@link LunarDateCache}, only when the cache is enabled
+   *
+   * @param hit whether the instance was cached
+   */
+  default void cacheAccess(boolean hit) {
+  }
+
+  /**
+   * instrumented entry points
+   */
+  enum Operation {
+    /**
+     * {@link LunarDate#ofDay(java.time.LocalDate)} and {@link LunarDate#ofEpochDay(long)}
+     */
+    OF_DAY,
+    /**
+     * {@link LunarDate#ofDay(int, int, int, LunarDate.LeapType)}
+     */
+    OF_LUNAR_DAY,
+    /**
+     * {@link LunarDate#ofMonth(java.time.LocalDate)}
+     */
+    OF_MONTH,
+    /**
+     * {@link LunarDate#ofMonth(int, int, LunarDate.LeapType)}
+     */
+    OF_LUNAR_MONTH,
+    /**
+     * {@link LunarDate#toLunarPacked(long)}
+     */
+    TO_LUNAR_PACKED,
+    /**
+     * {@link LunarDate#fromLunarPacked(int)}
+     */
+    FROM_LUNAR_PACKED,
+    /**
+     * {@link LunarParser#parse(CharSequence, int, int)}
+     */
+    PARSE
+  }
+}
@@ -0,0 +1,243 @@
+package cn.aethli.lunar;
+
+import cn.aethli.lunar.exception.LunarException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * <p>6x7 calendar grid of a gregorian month, with lunar dates and solar terms of every cell
+ * <p>cells are numbered 0 to 41 row by row, the first cell is on the first day of week on or
+ * before the 1st of the month. Lunar dates are packed, see {@link LunarDate#toLunarPacked(long)},
+ * cells out of supported range are {@link LunarDate#INVALID_PACKED}
+ * <p>a grid is filled from a table of lunar month starts built on first use, walking at most two
+ * lunar month boundaries. Immutable and thread-safe
+ *
+ * @author selcarpa
+ **/
+public final class LunarMonthView {
+
+  public static final int WEEKS = 6;
+  public static final int CELLS = WEEKS * 7;
+  private static final byte NO_TERM = -1;
+
+  private final YearMonth yearMonth;
+  private final DayOfWeek firstDayOfWeek;
+  private final int firstEpochDay;
+  private final int leadingDays;
+  private final int[] packed = new int[CELLS];
+  private final byte[] terms = new byte[CELLS];
+  /**
+   * cells of lunar month starts, at most 2 in 42 days
+   */
+  private final byte[] lunarMonthStarts = new byte[2];
+  private int lunarMonthStartCount;
+
+  private LunarMonthView(YearMonth yearMonth, DayOfWeek firstDayOfWeek) {
+    this.yearMonth = yearMonth;
+    this.firstDayOfWeek = firstDayOfWeek;
+    LocalDate first = yearMonth.atDay(1);
+    leadingDays = Math.floorMod(first.getDayOfWeek().getValue() - firstDayOfWeek.getValue(), 7);
+    firstEpochDay = (int) first.toEpochDay() - leadingDays;
+    fillLunar();
+    fillTerms();
+  }
+
+  /**
+   * @param yearMonth      gregorian month, must overlap the supported range
+   * @param firstDayOfWeek day of week of the first column
+   * @return month view
+   * @throws LunarException Exception with reason
+   */
+  public static LunarMonthView of(YearMonth yearMonth, DayOfWeek firstDayOfWeek)
+      throws LunarException {
+    if (yearMonth.atEndOfMonth().toEpochDay() < LunarTable.MIN_EPOCH_DAY
+        || yearMonth.atDay(1).toEpochDay() > LunarTable.MAX_EPOCH_DAY) {
+      throw LunarException.stackless("out of Range");
+    }
+    return new LunarMonthView(yearMonth, firstDayOfWeek);
+  }
+
+  private void fillLunar() {
+    int cell = 0;
+    for (; cell < CELLS && firstEpochDay + cell < LunarTable.MIN_EPOCH_DAY; cell++) {
+      packed[cell] = LunarDate.INVALID_PACKED;
+    }
+    if (cell < CELLS && firstEpochDay + cell <= LunarTable.MAX_EPOCH_DAY) {
+      int month = Months.indexOf(firstEpochDay + cell);
+      int monthStart = Months.START_EPOCH_DAY[month];
+      int monthEnd = Months.START_EPOCH_DAY[month + 1];
+      for (; cell < CELLS; cell++) {
+        int epochDay = firstEpochDay + cell;
+        if (epochDay >= monthEnd) {
+          if (++month == Months.PACKED.length) {
+            break;
+          }
+          monthStart = monthEnd;
+          monthEnd = Months.START_EPOCH_DAY[month + 1];
+        }
+        if (epochDay == monthStart) {
+          lunarMonthStarts[lunarMonthStartCount++] = (byte) cell;
+        }
+        packed[cell] = Months.PACKED[month] + epochDay - monthStart;
+      }
+    }
+    for (; cell < CELLS; cell++) {
+      packed[cell] = LunarDate.INVALID_PACKED;
+    }
+  }
+
+  private void fillTerms() {
+    int term = SolarTerm.termIndexOf(firstEpochDay);
+    int termEpochDay = SolarTerm.termEpochDay(term);
+    for (int cell = 0; cell < CELLS; cell++) {
+      int epochDay = firstEpochDay + cell;
+      while (termEpochDay < epochDay && term + 1 < SolarTerm.termCount()) {
+        termEpochDay = SolarTerm.termEpochDay(++term);
+      }
+      terms[cell] = termEpochDay == epochDay ? (byte) SolarTerm.termAt(term).ordinal() : NO_TERM;
+    }
+  }
+
+  public YearMonth getYearMonth() {
+    return yearMonth;
+  }
+
+  public DayOfWeek getFirstDayOfWeek() {
+    return firstDayOfWeek;
+  }
+
+  /**
+   * @return cells before the 1st of the month, 0 to 6
+   */
+  public int getLeadingDays() {
+    return leadingDays;
+  }
+
+  /**
+   * @return cell of the 1st of the month, the same as leading days
+   */
+  public int getFirstCell() {
+    return leadingDays;
+  }
+
+  /**
+   * @return cell after the last day of the month
+   */
+  public int getEndCell() {
+    return leadingDays + yearMonth.lengthOfMonth();
+  }
+
+  /**
+   * @param cell cell, 0 to 41
+   * @return whether the cell is a day of the month
+   */
+  public boolean isInMonth(int cell) {
+    return cell >= leadingDays && cell < getEndCell();
+  }
+
+  /**
+   * @param cell cell, 0 to 41
+   * @return gregorian epoch day of the cell
+   */
+  public long getEpochDay(int cell) {
+    return firstEpochDay + cell;
+  }
+
+  /**
+   * @param cell cell, 0 to 41
+   * @return gregorian date of the cell
+   */
+  public LocalDate getDate(int cell) {
+    return LocalDate.ofEpochDay(firstEpochDay + cell);
+  }
+
+  /**
+   * @param cell cell, 0 to 41
+   * @return packed lunar date of the cell, or {@link LunarDate#INVALID_PACKED} if out of range
+   */
+  public int getLunarPacked(int cell) {
+    return packed[cell];
+  }
+
+  /**
+   * @param cell cell, 0 to 41
+   * @return lunar day of the cell, 1 to 30, or 0 if out of range
+   */
+  public int getLunarDay(int cell) {
+    return packed[cell] == LunarDate.INVALID_PACKED ? 0 : LunarDate.packedDay(packed[cell]);
+  }
+
+  /**
+   * @param cell cell, 0 to 41
+   * @return solar term which starts on the cell, or null
+   */
+  public SolarTerm getSolarTerm(int cell) {
+    return terms[cell] == NO_TERM ? null : SolarTerm.termAt(terms[cell]);
+  }
+
+  /**
+   * @return count of lunar month starts in the grid, 0 to 2
+   */
+  public int getLunarMonthStartCount() {
+    return lunarMonthStartCount;
+  }
+
+  /**
+   * @param index index of lunar month start, less than {@link #getLunarMonthStartCount()}
+   * @return cell of the first day of the lunar month
+   */
+  public int getLunarMonthStart(int index) {
+    if (index >= lunarMonthStartCount) {
+      throw new IndexOutOfBoundsException("lunar month start " + index);
+    }
+    return lunarMonthStarts[index];
+  }
+
+  /**
+   * metadata of every supported lunar month, initialized on first use
+   */
+  private static final class Months {
+
+    /**
+     * packed lunar date of the first day of each month
+     */
+    static final int[] PACKED = new int[LunarTable.YEAR_MONTH_START[LunarTable.YEAR_COUNT]];
+    /**
+     * first epoch day of each month, the extra last element is the day after the last month
+     */
+    static final int[] START_EPOCH_DAY = new int[PACKED.length + 1];
+
+    static {
+      for (int yearIndex = 0; yearIndex < LunarTable.YEAR_COUNT; yearIndex++) {
+        for (int monthIndex = 0; monthIndex < LunarTable.monthCount(yearIndex); monthIndex++) {
+          int month = LunarTable.YEAR_MONTH_START[yearIndex] + monthIndex;
+          PACKED[month] = LunarDate.packLunar(LunarTable.MIN_LUNAR_YEAR + yearIndex,
+              LunarTable.monthOf(yearIndex, monthIndex), 1,
+              LunarTable.isLeapMonth(yearIndex, monthIndex));
+          START_EPOCH_DAY[month] = LunarTable.YEAR_START_EPOCH_DAY[yearIndex]
+              + LunarTable.monthOffset(yearIndex, monthIndex);
+        }
+      }
+      START_EPOCH_DAY[PACKED.length] = LunarTable.MAX_EPOCH_DAY + 1;
+    }
+
+    /**
+     * @param epochDay epoch day in supported range
+     * @return index of the month which contains the day
+     */
+    static int indexOf(int epochDay) {
+      int low = 0;
+      int high = PACKED.length - 1;
+      while (low < high) {
+        int mid = (low + high + 1) >>> 1;
+        if (START_EPOCH_DAY[mid] <= epochDay) {
+          low = mid;
+        } else {
+          high = mid - 1;
+        }
+      }
+      return low;
+    }
+  }
+}
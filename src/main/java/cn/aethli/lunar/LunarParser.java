@@ -0,0 +1,258 @@
+package cn.aethli.lunar;
+
+import cn.aethli.lunar.exception.LunarException;
+import java.text.ParsePosition;
+
+/**
+ * <p>parser of lunar date text, the reverse of chinese names of {@link LunarDate}
+ * <p>accepted forms:
+ * <p>      numeric    2024-02-15, 2024-02L-15, L marks leap month
+ * <p>      chinese    二〇二四年闰二月十五, 二零二四年正月初一, 2024年腊月廿九
+ * <p>chinese year digits are 〇零一二三四五六七八九 or ascii digits, months are 正 一 to 十二 冬 腊
+ * followed by 月, days are 初一 to 初十, 十一 to 十九, 二十, 廿一 to 廿九, 三十
+ * <p>text is read in place, without regex or substrings, errors are reported by index
+ *
+ * @author selcarpa
+ **/
+public final class LunarParser {
+
+  private LunarParser() {
+  }
+
+  /**
+   * parse a whole text
+   *
+   * @param text lunar date text
+   * @return parsed LunarDate
+   * @throws LunarException Exception with reason and error index
+   */
+  public static LunarDate parse(CharSequence text) throws LunarException {
+    return parse(text, 0, text.length());
+  }
+
+  /**
+   * parse a region of text, the whole region must be a lunar date
+   *
+   * @param text  text
+   * @param start start index, inclusive
+   * @param end   end index, exclusive
+   * @return parsed LunarDate
+   * @throws LunarException Exception with reason and error index
+   */
+  public static LunarDate parse(CharSequence text, int start, int end) throws LunarException {
+    LunarMetrics metrics = LunarInstrumentation.metrics;
+    return metrics == null ? unmeteredParse(text, start, end) : LunarInstrumentation.metered(
+        metrics, LunarMetrics.Operation.PARSE, () -> unmeteredParse(text, start, end));
+  }
+
+  private static LunarDate unmeteredParse(CharSequence text, int start, int end)
+      throws LunarException {
+    ParsePosition position = new ParsePosition(start);
+    int packed = parsePacked(text, end, position);
+    if (packed == LunarDate.INVALID_PACKED) {
+      throw LunarException.stackless("cannot parse lunar date at " + position.getErrorIndex());
+    }
+    if (position.getIndex() != end) {
+      throw LunarException.stackless("unexpected text at " + position.getIndex());
+    }
+    return LunarDate.ofValidPacked(packed);
+  }
+
+  /**
+   * <p>parse a lunar date from the index of position, without creating any object
+   * <p>on success the index moves to the end of the date, otherwise the error index is set and
+   * the index is not changed. Text after the date is not checked
+   *
+   * @param text     text
+   * @param position position to parse from
+   * @return packed lunar date, see {@link LunarDate#toLunarPacked(long)}, or
+   * {@link LunarDate#INVALID_PACKED} on error
+   */
+  public static int parsePacked(CharSequence text, ParsePosition position) {
+    return parsePacked(text, text.length(), position);
+  }
+
+  private static int parsePacked(CharSequence text, int end, ParsePosition position) {
+    int start = position.getIndex();
+    int index = start;
+    // year, ascii or chinese digits
+    int year = 0;
+    int digits = 0;
+    while (index < end && digits < 7) {
+      int digit = digitOf(text.charAt(index));
+      if (digit < 0) {
+        break;
+      }
+      year = year * 10 + digit;
+      digits++;
+      index++;
+    }
+    if (digits == 0 || index >= end) {
+      return error(position, index);
+    }
+    if (text.charAt(index) == '-') {
+      return parseNumeric(text, end, position, year, index + 1);
+    }
+    if (text.charAt(index) != '年') {
+      return error(position, index);
+    }
+    index++;
+    // month, 闰 正 一 to 十二 冬 腊, then 月
+    int monthStart = index;
+    boolean leap = index < end && text.charAt(index) == '闰';
+    if (leap) {
+      index++;
+    }
+    if (index >= end) {
+      return error(position, index);
+    }
+    int month;
+    char c = text.charAt(index++);
+    if (c == '正') {
+      month = 1;
+    } else if (c == '冬') {
+      month = 11;
+    } else if (c == '腊') {
+      month = 12;
+    } else if (c == '十') {
+      month = 10;
+      if (index < end && (text.charAt(index) == '一' || text.charAt(index) == '二')) {
+        month += digitOf(text.charAt(index++));
+      }
+    } else {
+      month = digitOf(c);
+      if (month < 1) {
+        return error(position, index - 1);
+      }
+    }
+    if (index >= end || text.charAt(index) != '月') {
+      return error(position, index);
+    }
+    index++;
+    // day, 初一 to 初十, 十一 to 十九, 二十, 廿一 to 廿九, 三十
+    int dayStart = index;
+    if (index + 1 >= end) {
+      return error(position, index);
+    }
+    char header = text.charAt(index);
+    char number = text.charAt(index + 1);
+    int digit = number == '十' ? 10 : digitOf(number);
+    int day;
+    if (header == '初' && digit >= 1) {
+      day = digit;
+    } else if (header == '十' && digit >= 1 && digit <= 9) {
+      day = 10 + digit;
+    } else if (header == '廿' && digit >= 1 && digit <= 9) {
+      day = 20 + digit;
+    } else if (header == '二' && digit == 10) {
+      day = 20;
+    } else if (header == '三' && digit == 10) {
+      day = 30;
+    } else {
+      return error(position, header == '初' || header == '十' || header == '廿' || header == '二'
+          || header == '三' ? index + 1 : index);
+    }
+    index += 2;
+    return checked(position, start, monthStart, dayStart, index, year, month, day, leap);
+  }
+
+  /**
+   * parse MM[L]-dd after "yyyy-"
+   */
+  private static int parseNumeric(CharSequence text, int end, ParsePosition position, int year,
+      int index) {
+    int start = position.getIndex();
+    int monthStart = index;
+    int month = 0;
+    int digits = 0;
+    while (index < end && digits < 2 && isAsciiDigit(text.charAt(index))) {
+      month = month * 10 + text.charAt(index++) - '0';
+      digits++;
+    }
+    if (digits == 0) {
+      return error(position, index);
+    }
+    boolean leap = index < end && text.charAt(index) == 'L';
+    if (leap) {
+      index++;
+    }
+    if (index >= end || text.charAt(index) != '-') {
+      return error(position, index);
+    }
+    index++;
+    int dayStart = index;
+    int day = 0;
+    digits = 0;
+    while (index < end && digits < 2 && isAsciiDigit(text.charAt(index))) {
+      day = day * 10 + text.charAt(index++) - '0';
+      digits++;
+    }
+    if (digits == 0) {
+      return error(position, index);
+    }
+    return checked(position, start, monthStart, dayStart, index, year, month, day, leap);
+  }
+
+  /**
+   * check the date exists, and report the first wrong part
+   */
+  private static int checked(ParsePosition position, int start, int monthStart, int dayStart,
+      int end, int year, int month, int day, boolean leap) {
+    if (year < LunarTable.MIN_LUNAR_YEAR || year > LunarTable.MAX_LUNAR_YEAR) {
+      return error(position, start);
+    }
+    LunarDate.LeapType leapType = leap ? LunarDate.LeapType.LEAP_1 : LunarDate.LeapType.NOT_LEAP;
+    if (!LunarDate.isValid(year, month, 1, leapType)) {
+      return error(position, monthStart);
+    }
+    if (!LunarDate.isValid(year, month, day, leapType)) {
+      return error(position, dayStart);
+    }
+    position.setIndex(end);
+    return LunarDate.packLunar(year, month, day, leap);
+  }
+
+  private static int error(ParsePosition position, int errorIndex) {
+    position.setErrorIndex(errorIndex);
+    return LunarDate.INVALID_PACKED;
+  }
+
+  private static boolean isAsciiDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  /**
+   * @param c ascii or chinese digit
+   * @return value of the digit, -1 if not a digit
+   */
+  private static int digitOf(char c) {
+    if (isAsciiDigit(c)) {
+      return c - '0';
+    }
+    switch (c) {
+      case '〇':
+      case '零':
+        return 0;
+      case '一':
+        return 1;
+      case '二':
+        return 2;
+      case '三':
+        return 3;
+      case '四':
+        return 4;
+      case '五':
+        return 5;
+      case '六':
+        return 6;
+      case '七':
+        return 7;
+      case '八':
+        return 8;
+      case '九':
+        return 9;
+      default:
+        return -1;
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package cn.aethli.lunar;
+
+import cn.aethli.lunar.exception.LunarException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>in-memory {@link LunarMetrics}, counters and latency histograms per entry point, and cache
+ * hit counts, recorded with LongAdder
+ * <p>histogram buckets are powers of two: bucket 0 counts latencies of 0ns, bucket i counts
+ * latencies from 2^(i-1) (inclusive) to 2^i (exclusive) nanoseconds
+ *
+ * @author selcarpa
+ **/
+public final class LunarStats implements LunarMetrics {
+
+  public static final int BUCKETS = 64;
+  private static final Operation[] OPERATIONS = Operation.values();
+
+  private final LongAdder[] counts = adders(OPERATIONS.length);
+  private final LongAdder[] rejections = adders(OPERATIONS.length);
+  private final LongAdder[] totalNanos = adders(OPERATIONS.length);
+  private final LongAdder[] histograms = adders(OPERATIONS.length * BUCKETS);
+  private final LongAdder cacheHits = new LongAdder();
+  private final LongAdder cacheMisses = new LongAdder();
+
+  private static LongAdder[] adders(int length) {
+    LongAdder[] adders = new LongAdder[length];
+    for (int i = 0; i < length; i++) {
+      adders[i] = new LongAdder();
+    }
+    return adders;
+  }
+
+  @Override
+  public void conversion(Operation operation, long nanos) {
+    record(operation, nanos);
+  }
+
+  @Override
+  public void rejection(Operation operation, long nanos, LunarException exception) {
+    rejections[operation.ordinal()].increment();
+    record(operation, nanos);
+  }
+
+  @Override
+  public void cacheAccess(boolean hit) {
+    (hit ? cacheHits : cacheMisses).increment();
+  }
+
+  private void record(Operation operation, long nanos) {
+    int index = operation.ordinal();
+    counts[index].increment();
+    totalNanos[index].add(nanos);
+    histograms[index * BUCKETS + bucketOf(nanos)].increment();
+  }
+
+  /**
+   * @param nanos latency in nanoseconds
+   * @return histogram bucket of the latency
+   */
+  public static int bucketOf(long nanos) {
+    return nanos <= 0 ? 0 : Math.min(BUCKETS - Long.numberOfLeadingZeros(nanos), BUCKETS - 1);
+  }
+
+  /**
+   * @param operation entry point
+   * @return count of calls, including rejected ones
+   */
+  public long getCount(Operation operation) {
+    return counts[operation.ordinal()].sum();
+  }
+
+  /**
+   * @param operation entry point
+   * @return count of calls rejected by a LunarException
+   */
+  public long getRejectionCount(Operation operation) {
+    return rejections[operation.ordinal()].sum();
+  }
+
+  /**
+   * @param operation entry point
+   * @return total latency of calls in nanoseconds
+   */
+  public long getTotalNanos(Operation operation) {
+    return totalNanos[operation.ordinal()].sum();
+  }
+
+  /**
+   * @param operation entry point
+   * @return counts of latency buckets, see {@link LunarStats}
+   */
+  public long[] getHistogram(Operation operation) {
+    long[] histogram = new long[BUCKETS];
+    for (int i = 0; i < BUCKETS; i++) {
+      histogram[i] = histograms[operation.ordinal() * BUCKETS + i].sum();
+    }
+    return histogram;
+  }
+
+  public long getCacheHitCount() {
+    return cacheHits.sum();
+  }
+
+  public long getCacheMissCount() {
+    return cacheMisses.sum();
+  }
+
+  /**
+   * @return hit rate of {@link LunarDateCache}, NaN if there is no lookup
+   */
+  public double getCacheHitRate() {
+    long hits = cacheHits.sum();
+    long total = hits + cacheMisses.sum();
+    return total == 0 ? Double.NaN : (double) hits / total;
+  }
+
+  /**
+   * reset all counters and histograms
+   */
+  public void reset() {
+    for (LongAdder[] adders : new LongAdder[][]{counts, rejections, totalNanos, histograms}) {
+      for (LongAdder adder : adders) {
+        adder.reset();
+      }
+    }
+    cacheHits.reset();
+    cacheMisses.reset();
+  }
+}
@@ -0,0 +1,293 @@
+package cn.aethli.lunar;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * <p>calendar data and the indexes built from it, shared by {@link LunarDate} and
+ * {@link LunarChronoLocalDate}
+ * <p>calendar data is loaded from the built-in resource lunar.dat (1901 to 2100), or from the
+ * file named by system property {@value #TABLE_PROPERTY}, which is memory-mapped. Both are big
+ * endian:
+ * <p>header: int magic "LUNR", int first lunar year, int count of years
+ * <p>one int per year: DaysPerMonth(bit 31 to 16) LM(bit 15 to 12) Lmon(bit 11 to 8) Lday(bit 7
+ * to 0)
+ * <p>Lmon:month of chinese NewYear
+ * <p>Lday:day of chinese NewYear
+ * <p>DaysPerMonth:days per month 1 for 30 days 0 for 29 days, the first month is the highest bit
+ * <p>LM:leap Month
+ * <p>years must be continuous, every chinese NewYear must be the day after the previous year
+ *
+ * @author selcarpa
+ **/
+final class LunarTable {
+
+  /**
+   * system property of an external calendar table file, replaces the built-in table
+   */
+  static final String TABLE_PROPERTY = "cn.aethli.lunar.table";
+  private static final String TABLE_RESOURCE = "lunar.dat";
+  private static final int TABLE_MAGIC = 0x4c554e52;
+  /**
+   * packed lunar date keeps year in bit 31 to 10, see {@link LunarDate#packLunar}
+   */
+  private static final int MAX_TABLE_YEAR = (1 << 21) - 1;
+
+  static final int MIN_LUNAR_YEAR;
+  static final int MAX_LUNAR_YEAR;
+  static final int YEAR_COUNT;
+  static final int MAX_LUNAR_MONTH = 13;
+  /**
+   * month slots per lunar year in MONTH_OFFSET, 13 months and the year end
+   */
+  static final int MONTH_SLOT = MAX_LUNAR_MONTH + 1;
+  /**
+   * DaysPerMonth per lunar year, read only, shared by all threads without locking
+   */
+  static final int[] DAYS_PER_MONTH;
+  /**
+   * <p>epoch day of chinese new year for each lunar year
+   * <p>the extra last element is the day after the last supported lunar day
+   */
+  static final int[] YEAR_START_EPOCH_DAY;
+  /**
+   * <p>days from chinese new year to the first day of each month, MONTH_SLOT elements per year
+   * <p>month index is the same as DaysPerMonth, unused slots are filled with days of the year
+   */
+  static final short[] MONTH_OFFSET;
+  /**
+   * leap month per lunar year, 0 for no leap month
+   */
+  static final byte[] LEAP_MONTH;
+  /**
+   * <p>months before each lunar year, counted from the first supported month
+   * <p>the extra last element is the count of all supported months
+   */
+  static final int[] YEAR_MONTH_START;
+  static final int MIN_EPOCH_DAY;
+  static final int MAX_EPOCH_DAY;
+  static final int MIN_YEAR_LENGTH;
+  static final int MAX_YEAR_LENGTH;
+
+  static {
+    ByteBuffer table = loadTable();
+    if (table.remaining() < 3 * Integer.BYTES || table.getInt() != TABLE_MAGIC) {
+      throw new IllegalStateException("invalid calendar table");
+    }
+    MIN_LUNAR_YEAR = table.getInt();
+    YEAR_COUNT = table.getInt();
+    if (MIN_LUNAR_YEAR < 1 || YEAR_COUNT <= 0 || YEAR_COUNT > MAX_TABLE_YEAR - MIN_LUNAR_YEAR + 1
+        || table.remaining() < YEAR_COUNT * Integer.BYTES) {
+      throw new IllegalStateException("invalid calendar table");
+    }
+    MAX_LUNAR_YEAR = MIN_LUNAR_YEAR + YEAR_COUNT - 1;
+    DAYS_PER_MONTH = new int[YEAR_COUNT];
+    YEAR_START_EPOCH_DAY = new int[YEAR_COUNT + 1];
+    MONTH_OFFSET = new short[YEAR_COUNT * MONTH_SLOT];
+    LEAP_MONTH = new byte[YEAR_COUNT];
+    YEAR_MONTH_START = new int[YEAR_COUNT + 1];
+    int minYearLength = Integer.MAX_VALUE;
+    int maxYearLength = 0;
+    for (int i = 0; i < YEAR_COUNT; i++) {
+      int yearInfo = table.getInt();
+      int leapMonth = yearInfo >>> 12 & 0xf;
+      if (leapMonth > 12) {
+        throw new IllegalStateException("invalid leap month of " + (MIN_LUNAR_YEAR + i));
+      }
+      int newYearMonth = yearInfo >>> 8 & 0xf;
+      int newYearDay = yearInfo & 0xff;
+      if (newYearMonth < 1 || newYearMonth > 12 || newYearDay < 1
+          || newYearDay > YearMonth.of(MIN_LUNAR_YEAR + i, newYearMonth).lengthOfMonth()) {
+        throw new IllegalStateException("invalid chinese new year " + newYearMonth + "-"
+            + newYearDay + " of " + (MIN_LUNAR_YEAR + i));
+      }
+      int yearStart = (int) LocalDate.of(MIN_LUNAR_YEAR + i, newYearMonth, newYearDay)
+          .toEpochDay();
+      if (i == 0) {
+        YEAR_START_EPOCH_DAY[0] = yearStart;
+      } else if (YEAR_START_EPOCH_DAY[i] != yearStart) {
+        throw new IllegalStateException("calendar table is not continuous at "
+            + (MIN_LUNAR_YEAR + i));
+      }
+      DAYS_PER_MONTH[i] = yearInfo >>> 16;
+      LEAP_MONTH[i] = (byte) leapMonth;
+      int monthCount = leapMonth == 0 ? 12 : 13;
+      YEAR_MONTH_START[i + 1] = YEAR_MONTH_START[i] + monthCount;
+      int offset = 0;
+      for (int j = 0; j < MONTH_SLOT; j++) {
+        MONTH_OFFSET[i * MONTH_SLOT + j] = (short) offset;
+        if (j < monthCount) {
+          offset += (DAYS_PER_MONTH[i] >>> (15 - j) & 1) == 0 ? 29 : 30;
+        }
+      }
+      YEAR_START_EPOCH_DAY[i + 1] = yearStart + offset;
+      minYearLength = Math.min(minYearLength, offset);
+      maxYearLength = Math.max(maxYearLength, offset);
+    }
+    MIN_EPOCH_DAY = YEAR_START_EPOCH_DAY[0];
+    MAX_EPOCH_DAY = YEAR_START_EPOCH_DAY[YEAR_COUNT] - 1;
+    MIN_YEAR_LENGTH = minYearLength;
+    MAX_YEAR_LENGTH = maxYearLength;
+  }
+
+  private LunarTable() {
+  }
+
+  /**
+   * @return calendar table positioned at the header, big endian
+   */
+  private static ByteBuffer loadTable() {
+    String path = System.getProperty(TABLE_PROPERTY);
+    try {
+      if (path != null) {
+        try (FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+          return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+      }
+      try (InputStream in = LunarTable.class.getResourceAsStream(TABLE_RESOURCE)) {
+        if (in == null) {
+          throw new IllegalStateException("calendar table not found");
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+        byte[] buffer = new byte[1024];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+          out.write(buffer, 0, read);
+        }
+        return ByteBuffer.wrap(out.toByteArray());
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * find the lunar year which contains the epoch day, epoch day must be in supported range
+   *
+   * @param epochDay epoch day of gregorian date
+   * @return index of lunar year
+   */
+  static int yearIndexOf(int epochDay) {
+    int low = 0;
+    int high = YEAR_COUNT - 1;
+    while (low < high) {
+      int mid = (low + high + 1) >>> 1;
+      if (YEAR_START_EPOCH_DAY[mid] <= epochDay) {
+        low = mid;
+      } else {
+        high = mid - 1;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * find the lunar year which contains the month, month must be in supported range
+   *
+   * @param months months from the first supported month
+   * @return index of lunar year
+   */
+  static int yearIndexOfMonth(int months) {
+    int low = 0;
+    int high = YEAR_COUNT - 1;
+    while (low < high) {
+      int mid = (low + high + 1) >>> 1;
+      if (YEAR_MONTH_START[mid] <= months) {
+        low = mid;
+      } else {
+        high = mid - 1;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * find the month which contains the day of lunar year
+   *
+   * @param yearIndex index of lunar year
+   * @param dayOfYear days from chinese new year
+   * @return month index, the same as DaysPerMonth
+   */
+  static int monthIndexOf(int yearIndex, int dayOfYear) {
+    int base = yearIndex * MONTH_SLOT;
+    int monthIndex = 0;
+    while (MONTH_OFFSET[base + monthIndex + 1] <= dayOfYear) {
+      monthIndex++;
+    }
+    return monthIndex;
+  }
+
+  /**
+   * @param yearIndex index of lunar year
+   * @return 13 if the year has a leap month, else 12
+   */
+  static int monthCount(int yearIndex) {
+    return LEAP_MONTH[yearIndex] == 0 ? 12 : 13;
+  }
+
+  /**
+   * @param yearIndex  index of lunar year
+   * @param monthIndex month index, the same as DaysPerMonth
+   * @return days from chinese new year to the first day of the month
+   */
+  static int monthOffset(int yearIndex, int monthIndex) {
+    return MONTH_OFFSET[yearIndex * MONTH_SLOT + monthIndex];
+  }
+
+  /**
+   * @param yearIndex  index of lunar year
+   * @param monthIndex month index, the same as DaysPerMonth
+   * @return 29 or 30
+   */
+  static int monthLength(int yearIndex, int monthIndex) {
+    int base = yearIndex * MONTH_SLOT + monthIndex;
+    return MONTH_OFFSET[base + 1] - MONTH_OFFSET[base];
+  }
+
+  /**
+   * @param yearIndex index of lunar year
+   * @return days of the lunar year
+   */
+  static int yearLength(int yearIndex) {
+    return YEAR_START_EPOCH_DAY[yearIndex + 1] - YEAR_START_EPOCH_DAY[yearIndex];
+  }
+
+  /**
+   * @param yearIndex index of lunar year
+   * @param month     lunar month, 1 to 12
+   * @param leap      whether it is the leap month
+   * @return month index, the same as DaysPerMonth
+   */
+  static int monthIndexOf(int yearIndex, int month, boolean leap) {
+    int leapMonth = LEAP_MONTH[yearIndex];
+    return leapMonth != 0 && (month > leapMonth || leap) ? month : month - 1;
+  }
+
+  /**
+   * @param yearIndex  index of lunar year
+   * @param monthIndex month index, the same as DaysPerMonth
+   * @return lunar month, 1 to 12
+   */
+  static int monthOf(int yearIndex, int monthIndex) {
+    int leapMonth = LEAP_MONTH[yearIndex];
+    return leapMonth != 0 && monthIndex >= leapMonth ? monthIndex : monthIndex + 1;
+  }
+
+  /**
+   * @param yearIndex  index of lunar year
+   * @param monthIndex month index, the same as DaysPerMonth
+   * @return whether the month is a leap month
+   */
+  static boolean isLeapMonth(int yearIndex, int monthIndex) {
+    int leapMonth = LEAP_MONTH[yearIndex];
+    return leapMonth != 0 && monthIndex == leapMonth;
+  }
+}
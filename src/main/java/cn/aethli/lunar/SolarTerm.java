@@ -0,0 +1,172 @@
+package cn.aethli.lunar;
+
+import cn.aethli.lunar.exception.LunarException;
+import java.time.LocalDate;
+
+/**
+ * <p>24 solar terms(节气), in the order of a gregorian year
+ * <p>dates are computed by {@link SolarTermEngine} in China Standard Time, and cached for the
+ * gregorian years of the supported lunar years and the year after, the table is built on first
+ * use. A lookup is a binary search in the table
+ *
+ * @author selcarpa
+ **/
+public enum SolarTerm {
+  XIAO_HAN("小寒"), DA_HAN("大寒"), LI_CHUN("立春"), YU_SHUI("雨水"), JING_ZHE("惊蛰"),
+  CHUN_FEN("春分"), QING_MING("清明"), GU_YU("谷雨"), LI_XIA("立夏"), XIAO_MAN("小满"),
+  MANG_ZHONG("芒种"), XIA_ZHI("夏至"), XIAO_SHU("小暑"), DA_SHU("大暑"), LI_QIU("立秋"),
+  CHU_SHU("处暑"), BAI_LU("白露"), QIU_FEN("秋分"), HAN_LU("寒露"), SHUANG_JIANG("霜降"),
+  LI_DONG("立冬"), XIAO_XUE("小雪"), DA_XUE("大雪"), DONG_ZHI("冬至");
+
+  private static final SolarTerm[] VALUES = values();
+  private final String name;
+
+  SolarTerm(String name) {
+    this.name = name;
+  }
+
+  /**
+   * get the solar term which contains the date, the term starts on or before the date
+   *
+   * @param date gregorian date in supported range
+   * @return solar term
+   * @throws LunarException Exception with reason
+   */
+  public static SolarTerm of(LocalDate date) throws LunarException {
+    return VALUES[Table.indexOf(date) % VALUES.length];
+  }
+
+  /**
+   * get the first solar term after the date
+   *
+   * @param date gregorian date in supported range
+   * @return solar term
+   * @throws LunarException Exception with reason
+   */
+  public static SolarTerm next(LocalDate date) throws LunarException {
+    return VALUES[(Table.indexOf(date) + 1) % VALUES.length];
+  }
+
+  /**
+   * @param date gregorian date in supported range
+   * @return start date of the solar term which contains the date
+   * @throws LunarException Exception with reason
+   */
+  public static LocalDate startOf(LocalDate date) throws LunarException {
+    return LocalDate.ofEpochDay(Table.TERM_EPOCH_DAY[Table.indexOf(date)]);
+  }
+
+  /**
+   * @param date gregorian date in supported range
+   * @return start date of the first solar term after the date
+   * @throws LunarException Exception with reason
+   */
+  public static LocalDate nextStartOf(LocalDate date) throws LunarException {
+    return LocalDate.ofEpochDay(Table.TERM_EPOCH_DAY[Table.indexOf(date) + 1]);
+  }
+
+  /**
+   * @return chinese name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return apparent solar longitude in degrees when the term starts, 0 for 春分
+   */
+  public int getLongitude() {
+    return (285 + 15 * ordinal()) % 360;
+  }
+
+  /**
+   * @param year gregorian year, from the first supported lunar year to the year after the last
+   * @return date of this solar term in the year
+   * @throws LunarException Exception with reason
+   */
+  public LocalDate getDate(int year) throws LunarException {
+    if (year < LunarTable.MIN_LUNAR_YEAR || year > LunarTable.MAX_LUNAR_YEAR + 1) {
+      throw LunarException.stackless("out of Range");
+    }
+    return LocalDate.ofEpochDay(
+        Table.TERM_EPOCH_DAY[(year - LunarTable.MIN_LUNAR_YEAR) * VALUES.length + ordinal()]);
+  }
+
+  /**
+   * @param epochDay epoch day in supported range
+   * @return index of the last term on or before the day, see {@link #termAt(int)}
+   */
+  static int termIndexOf(long epochDay) {
+    return Table.indexOf(epochDay);
+  }
+
+  /**
+   * @param termIndex index of a term in the table, from {@link #termIndexOf(long)}
+   * @return start epoch day of the term
+   */
+  static int termEpochDay(int termIndex) {
+    return Table.TERM_EPOCH_DAY[termIndex];
+  }
+
+  /**
+   * @return count of terms in the table
+   */
+  static int termCount() {
+    return Table.TERM_EPOCH_DAY.length;
+  }
+
+  /**
+   * @param termIndex index of a term in the table, from {@link #termIndexOf(long)}
+   * @return the term
+   */
+  static SolarTerm termAt(int termIndex) {
+    return VALUES[termIndex % VALUES.length];
+  }
+
+  /**
+   * epoch days of solar terms, 24 per gregorian year from the first supported lunar year,
+   * initialized on first use
+   */
+  private static final class Table {
+
+    static final int[] TERM_EPOCH_DAY = new int[(LunarTable.YEAR_COUNT + 1) * VALUES.length];
+
+    static {
+      for (int i = 0; i < TERM_EPOCH_DAY.length; i++) {
+        TERM_EPOCH_DAY[i] = SolarTermEngine
+            .epochDay(LunarTable.MIN_LUNAR_YEAR + i / VALUES.length, i % VALUES.length);
+      }
+    }
+
+    /**
+     * @param date gregorian date in supported range
+     * @return index of the last term on or before the date
+     * @throws LunarException Exception with reason
+     */
+    static int indexOf(LocalDate date) throws LunarException {
+      long epochDay = date.toEpochDay();
+      if (epochDay < LunarTable.MIN_EPOCH_DAY || epochDay > LunarTable.MAX_EPOCH_DAY) {
+        throw LunarException.stackless("out of Range");
+      }
+      return indexOf(epochDay);
+    }
+
+    /**
+     * @param epochDay epoch day in supported range
+     * @return index of the last term on or before the day
+     */
+    static int indexOf(long epochDay) {
+      int low = 0;
+      int high = TERM_EPOCH_DAY.length - 1;
+      while (low < high) {
+        int mid = (low + high + 1) >>> 1;
+        if (TERM_EPOCH_DAY[mid] <= epochDay) {
+          low = mid;
+        } else {
+          high = mid - 1;
+        }
+      }
+      return low;
+    }
+  }
+}
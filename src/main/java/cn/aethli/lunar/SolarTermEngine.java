@@ -0,0 +1,216 @@
+package cn.aethli.lunar;
+
+/**
+ * <p>astronomical computation of solar terms, based on julian day
+ * <p>apparent solar longitude is computed from truncated VSOP87 series of the earth (Jean
+ * Meeus, Astronomical Algorithms, appendix III), with nutation and aberration, accurate to a
+ * few arc seconds. Times are converted from TT to UT by Espenak-Meeus delta T polynomials and
+ * given in China Standard Time (UTC+8)
+ *
+ * @author selcarpa
+ **/
+final class SolarTermEngine {
+
+  /**
+   * julian day of J2000.0
+   */
+  private static final double J2000 = 2451545.0;
+  /**
+   * julian day of 1970-01-01T00:00 UT, epoch day 0
+   */
+  private static final double UNIX_EPOCH = 2440587.5;
+  /**
+   * offset of China Standard Time in days
+   */
+  private static final double CST_OFFSET = 8.0 / 24;
+  private static final double MEAN_TROPICAL_YEAR = 365.2422;
+  private static final double ARC_SECOND = Math.PI / 180 / 3600;
+  private static final double TWO_PI = 2 * Math.PI;
+  /**
+   * VSOP87 earth heliocentric longitude, amplitude(1e-8 rad), phase, frequency, per power of
+   * millennium
+   */
+  private static final double[][] L = {
+      {175347046, 0, 0, 3341656, 4.6692568, 6283.07585, 34894, 4.6261, 12566.1517,
+          3497, 2.7441, 5753.3849, 3418, 2.8289, 3.5231, 3136, 3.6277, 77713.7715,
+          2676, 4.4181, 7860.4194, 2343, 6.1352, 3930.2097, 1324, 0.7425, 11506.7698,
+          1273, 2.0371, 529.691, 1199, 1.1096, 1577.3435, 990, 5.233, 5884.927,
+          902, 2.045, 26.298, 857, 3.508, 398.149, 780, 1.179, 5223.694,
+          753, 2.533, 5507.553, 505, 4.583, 18849.228, 492, 4.205, 775.523,
+          357, 2.92, 0.067, 317, 5.849, 11790.629, 284, 1.899, 796.298,
+          271, 0.315, 10977.079, 243, 0.345, 5486.778, 206, 4.806, 2544.314,
+          205, 1.869, 5573.143, 202, 2.458, 6069.777, 156, 0.833, 213.299,
+          132, 3.411, 2942.463, 126, 1.083, 20.775, 115, 0.645, 0.98,
+          103, 0.636, 4694.003, 102, 0.976, 15720.839, 102, 4.267, 7.114,
+          99, 6.21, 2146.17, 98, 0.68, 155.42, 86, 5.98, 161000.69,
+          85, 1.3, 6275.96, 85, 3.67, 71430.7, 80, 1.81, 17260.15,
+          79, 3.04, 12036.46, 75, 1.76, 5088.63, 74, 3.5, 3154.69,
+          74, 4.68, 801.82, 70, 0.83, 9437.76, 62, 3.98, 8827.39,
+          61, 1.82, 7084.9, 57, 2.78, 6286.6, 56, 4.39, 14143.5,
+          56, 3.47, 6279.55, 52, 0.19, 12139.55, 52, 1.33, 1748.02,
+          51, 0.28, 5856.48, 49, 0.49, 1194.45, 41, 5.37, 8429.24,
+          41, 2.4, 19651.05, 39, 6.17, 10447.39, 37, 6.04, 10213.29,
+          37, 2.57, 1059.38, 36, 1.71, 2352.87, 36, 1.78, 6812.77,
+          33, 0.59, 17789.85, 30, 0.44, 83996.85, 30, 2.74, 1349.87,
+          25, 3.16, 4690.48},
+      {628331966747.0, 0, 0, 206059, 2.678235, 6283.07585, 4303, 2.6351, 12566.1517,
+          425, 1.59, 3.523, 119, 5.796, 26.298, 109, 2.966, 1577.344,
+          93, 2.59, 18849.23, 72, 1.14, 529.69, 68, 1.87, 398.15,
+          67, 4.41, 5507.55, 59, 2.89, 5223.69, 56, 2.17, 155.42,
+          45, 0.4, 796.3, 36, 0.47, 775.52, 29, 2.65, 7.11,
+          21, 5.34, 0.98, 19, 1.85, 5486.78, 19, 4.97, 213.3,
+          17, 2.99, 6275.96, 16, 0.03, 2544.31, 16, 1.43, 2146.17,
+          15, 1.21, 10977.08, 12, 2.83, 1748.02, 12, 3.26, 5088.63,
+          12, 5.27, 1194.45, 12, 2.08, 4694, 11, 0.77, 553.57,
+          10, 1.3, 6286.6, 10, 4.24, 1349.87, 9, 2.7, 242.73,
+          9, 5.64, 951.72, 8, 5.3, 2352.87, 6, 2.65, 9437.76,
+          6, 4.67, 4690.48},
+      {52919, 0, 0, 8720, 1.0721, 6283.0758, 309, 0.867, 12566.152,
+          27, 0.05, 3.52, 16, 5.19, 26.3, 16, 3.68, 155.42,
+          10, 0.76, 18849.23, 9, 2.06, 77713.77, 7, 0.83, 775.52,
+          5, 4.66, 1577.34, 4, 1.03, 7.11, 4, 3.44, 5573.14,
+          3, 5.14, 796.3, 3, 6.05, 5507.55, 3, 1.19, 242.73,
+          3, 6.12, 529.69, 3, 0.31, 398.15, 3, 2.28, 553.57,
+          2, 4.38, 5223.69, 2, 3.75, 0.98},
+      {289, 5.844, 6283.076, 35, 0, 0, 17, 5.49, 12566.15,
+          3, 5.2, 155.42, 1, 4.72, 3.52, 1, 5.3, 18849.23,
+          1, 5.97, 242.73},
+      {114, 3.142, 0, 8, 4.13, 6283.08, 1, 3.84, 12566.15},
+      {1, 3.14, 0}
+  };
+  /**
+   * VSOP87 earth radius vector, main terms only, used by aberration
+   */
+  private static final double[][] R = {
+      {100013989, 0, 0, 1670700, 3.0984635, 6283.07585, 13956, 3.05525, 12566.1517,
+          3084, 5.1985, 77713.7715, 1628, 1.1739, 5753.3849, 1576, 2.8469, 7860.4194},
+      {103019, 1.10749, 6283.07585, 1721, 1.0644, 12566.1517}
+  };
+
+  private SolarTermEngine() {
+  }
+
+  /**
+   * @param year      gregorian year
+   * @param termIndex 0 to 23, ordinal of {@link SolarTerm}
+   * @return epoch day of the solar term in China Standard Time
+   */
+  static int epochDay(int year, int termIndex) {
+    return (int) Math.floor(julianDay(year, termIndex) + CST_OFFSET - UNIX_EPOCH);
+  }
+
+  /**
+   * @param year      gregorian year
+   * @param termIndex 0 to 23, ordinal of {@link SolarTerm}
+   * @return julian day (UT) of the moment the sun reaches the longitude of the solar term
+   */
+  static double julianDay(int year, int termIndex) {
+    double longitude = Math.toRadians(SolarTerm.values()[termIndex].getLongitude());
+    // 小寒 is about 5 days after the start of gregorian year, terms are about 15.2 days apart
+    double jde = J2000 + (year - 2000) * MEAN_TROPICAL_YEAR + 4.5
+        + termIndex * MEAN_TROPICAL_YEAR / 24;
+    for (int i = 0; i < 10; i++) {
+      double difference = normalize(longitude - apparentLongitude(jde));
+      jde += difference * MEAN_TROPICAL_YEAR / TWO_PI;
+      if (Math.abs(difference) < 1e-9) {
+        break;
+      }
+    }
+    return jde - deltaT(year + termIndex / 24.0) / 86400;
+  }
+
+  /**
+   * @param jde julian ephemeris day
+   * @return apparent geocentric longitude of the sun in radians
+   */
+  static double apparentLongitude(double jde) {
+    double tau = (jde - J2000) / 365250;
+    double t = tau * 10;
+    double longitude = series(L, tau) + Math.PI;
+    // FK5 correction
+    longitude -= 0.09033 * ARC_SECOND;
+    // nutation in longitude
+    double omega = Math.toRadians(125.04452 - 1934.136261 * t);
+    double sunMean = Math.toRadians(280.4665 + 36000.7698 * t);
+    double moonMean = Math.toRadians(218.3165 + 481267.8813 * t);
+    longitude += (-17.2 * Math.sin(omega) - 1.32 * Math.sin(2 * sunMean)
+        - 0.23 * Math.sin(2 * moonMean) + 0.21 * Math.sin(2 * omega)) * ARC_SECOND;
+    // aberration
+    longitude -= 20.4898 * ARC_SECOND / series(R, tau);
+    return normalize(longitude);
+  }
+
+  /**
+   * @param terms VSOP87 terms per power of tau
+   * @param tau   julian millennia from J2000.0
+   * @return sum of the series, terms in 1e-8 unit
+   */
+  private static double series(double[][] terms, double tau) {
+    double sum = 0;
+    double power = 1;
+    for (double[] term : terms) {
+      double value = 0;
+      for (int i = 0; i < term.length; i += 3) {
+        value += term[i] * Math.cos(term[i + 1] + term[i + 2] * tau);
+      }
+      sum += value * power;
+      power *= tau;
+    }
+    return sum / 1e8;
+  }
+
+  /**
+   * @param angle angle in radians
+   * @return the same angle in [-PI, PI)
+   */
+  private static double normalize(double angle) {
+    angle %= TWO_PI;
+    if (angle >= Math.PI) {
+      angle -= TWO_PI;
+    } else if (angle < -Math.PI) {
+      angle += TWO_PI;
+    }
+    return angle;
+  }
+
+  /**
+   * Espenak-Meeus polynomials, long term parabola outside 1860 to 2150
+   *
+   * @param year decimal gregorian year
+   * @return TT - UT in seconds
+   */
+  static double deltaT(double year) {
+    double t;
+    if (year < 1860 || year >= 2150) {
+      double u = (year - 1820) / 100;
+      return -20 + 32 * u * u;
+    } else if (year < 1900) {
+      t = year - 1860;
+      return 7.62 + 0.5737 * t - 0.251754 * t * t + 0.01680668 * t * t * t
+          - 0.0004473624 * Math.pow(t, 4) + Math.pow(t, 5) / 233174;
+    } else if (year < 1920) {
+      t = year - 1900;
+      return -2.79 + 1.494119 * t - 0.0598939 * t * t + 0.0061966 * t * t * t
+          - 0.000197 * Math.pow(t, 4);
+    } else if (year < 1941) {
+      t = year - 1920;
+      return 21.2 + 0.84493 * t - 0.0761 * t * t + 0.0020936 * t * t * t;
+    } else if (year < 1961) {
+      t = year - 1950;
+      return 29.07 + 0.407 * t - t * t / 233 + t * t * t / 2547;
+    } else if (year < 1986) {
+      t = year - 1975;
+      return 45.45 + 1.067 * t - t * t / 260 - t * t * t / 718;
+    } else if (year < 2005) {
+      t = year - 2000;
+      return 63.86 + 0.3345 * t - 0.060374 * t * t + 0.0017275 * t * t * t
+          + 0.000651814 * Math.pow(t, 4) + 0.00002373599 * Math.pow(t, 5);
+    } else if (year < 2050) {
+      t = year - 2000;
+      return 62.92 + 0.32217 * t + 0.005589 * t * t;
+    } else {
+      double u = (year - 1820) / 100;
+      return -20 + 32 * u * u - 0.5628 * (2150 - year);
+    }
+  }
+}
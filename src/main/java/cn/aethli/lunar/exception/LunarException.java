@@ -1,7 +1,9 @@
 package cn.aethli.lunar.exception;
 
 /**
- * just extends Exception
+ * <p>just extends Exception
+ * <p>rejections of ordinary invalid input are created by {@link #stackless(String)}, without
+ * stack trace
  *
  * @author selcarpa
  **/
@@ -26,4 +28,14 @@ public class LunarException extends Exception {
       boolean writableStackTrace) {
     super(message, cause, enableSuppression, writableStackTrace);
   }
+
+  /**
+   * create an exception without stack trace and suppressed exceptions, which is cheap to throw
+   *
+   * @param message reason
+   * @return exception without stack trace
+   */
+  public static LunarException stackless(String message) {
+    return new LunarException(message, null, false, false);
+  }
 }
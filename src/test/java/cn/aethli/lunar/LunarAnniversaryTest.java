@@ -0,0 +1,62 @@
+package cn.aethli.lunar;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cn.aethli.lunar.LunarDate.LeapType;
+import cn.aethli.lunar.exception.LunarException;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+/**
+ * leap month fallback, day clamping and lookups of LunarAnniversary
+ *
+ * @author selcarpa
+ **/
+class LunarAnniversaryTest {
+
+  @Test
+  void leapMonthFallsBackToRegularMonth() throws LunarException {
+    LunarAnniversary anniversary = LunarAnniversary.of(2, 15, true);
+    assertEquals(LunarDate.ofDay(2023, 2, 15, LeapType.LEAP_1).getGregorianDate(),
+        anniversary.getDate(2023));
+    assertEquals(LunarDate.ofDay(2024, 2, 15, LeapType.NOT_LEAP).getGregorianDate(),
+        anniversary.getDate(2024));
+    assertEquals(anniversary, LunarAnniversary.of(LunarDate.ofDay(2023, 2, 15, LeapType.LEAP_1)));
+  }
+
+  @Test
+  void dayThirtyIsClamped() throws LunarException {
+    LunarAnniversary anniversary = LunarAnniversary.of(12, 30, false);
+    // 腊月 of lunar 2023 has 30 days, 腊月 of lunar 2024 has 29 days
+    assertEquals(LunarDate.ofDay(2023, 12, 30, LeapType.NOT_LEAP).getGregorianDate(),
+        anniversary.getDate(2023));
+    assertEquals(LunarDate.ofDay(2024, 12, 29, LeapType.NOT_LEAP).getGregorianDate(),
+        anniversary.getDate(2024));
+    for (int year = LunarTable.MIN_LUNAR_YEAR; year <= LunarTable.MAX_LUNAR_YEAR; year++) {
+      assertEquals(LunarFestival.CHU_XI.getDate(year), anniversary.getDate(year));
+    }
+    // 闰二月 of 2023 has 29 days
+    assertEquals(LunarDate.ofDay(2023, 2, 29, LeapType.LEAP_1).getGregorianDate(),
+        LunarAnniversary.of(2, 30, true).getDate(2023));
+  }
+
+  @Test
+  void nextNearEndOfRange() throws LunarException {
+    LocalDate max = LocalDate.ofEpochDay(LunarTable.MAX_EPOCH_DAY);
+    LunarAnniversary lastDay = LunarAnniversary.of(12, 30, false);
+    assertTrue(lastDay.isOn(max));
+    assertArrayEquals(new LocalDate[]{max}, lastDay.next(max.minusDays(1), 3));
+    assertEquals(max, lastDay.next(max.minusDays(1)));
+    assertArrayEquals(new LocalDate[0], lastDay.next(max, 3));
+    assertThrows(LunarException.class, () -> lastDay.next(max));
+    LunarAnniversary newYear = LunarAnniversary.of(1, 1, false);
+    assertArrayEquals(new LocalDate[]{newYear.getDate(LunarTable.MAX_LUNAR_YEAR)},
+        newYear.next(max.minusDays(400), 5));
+    assertArrayEquals(new LocalDate[0], newYear.next(max.plusDays(1), 5));
+    assertEquals(newYear.getDate(LunarTable.MIN_LUNAR_YEAR), newYear.next(LocalDate.MIN));
+    assertThrows(IllegalArgumentException.class, () -> newYear.next(max, -1));
+  }
+}
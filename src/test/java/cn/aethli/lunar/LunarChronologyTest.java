@@ -0,0 +1,144 @@
+package cn.aethli.lunar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Modifier;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LunarChronology and LunarChronoLocalDate, singleton, serialization and arithmetic
+ *
+ * @author selcarpa
+ **/
+class LunarChronologyTest {
+
+  @Test
+  void noPublicConstructor() {
+    assertEquals(0, Arrays.stream(LunarChronology.class.getDeclaredConstructors())
+        .filter(constructor -> Modifier.isPublic(constructor.getModifiers())).count());
+  }
+
+  @Test
+  void deserializedIsSingleton() throws IOException, ClassNotFoundException {
+    assertSame(LunarChronology.INSTANCE, roundTrip(LunarChronology.INSTANCE));
+    LunarChronoLocalDate date = LunarChronoLocalDate.of(2023, 2, true, 15);
+    LunarChronoLocalDate copy = (LunarChronoLocalDate) roundTrip(date);
+    assertEquals(date, copy);
+    assertSame(LunarChronology.INSTANCE, copy.getChronology());
+  }
+
+  @Test
+  void serializedFormIsEpochDay() throws IOException, ClassNotFoundException {
+    byte[] bytes = serialize(LunarChronoLocalDate.of(2023, 2, true, 15));
+    // the epoch day is the last field of the stream, replace it with one out of range
+    ByteArrayOutputStream epochDay = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(epochDay)) {
+      out.writeInt(LunarTable.MAX_EPOCH_DAY + 1);
+    }
+    System.arraycopy(epochDay.toByteArray(), 0, bytes, bytes.length - Integer.BYTES,
+        Integer.BYTES);
+    assertThrows(InvalidObjectException.class, () -> deserialize(bytes));
+  }
+
+  @Test
+  void plusMonthsAcrossLeapMonth() {
+    // 2023 has 闰二月
+    LunarChronoLocalDate date = LunarChronoLocalDate.of(2023, 1, false, 15);
+    LunarChronoLocalDate second = date.plus(1, ChronoUnit.MONTHS);
+    assertEquals(2, second.getMonth());
+    assertFalse(second.isLeapMonth());
+    LunarChronoLocalDate leap = date.plus(2, ChronoUnit.MONTHS);
+    assertEquals(2, leap.getMonth());
+    assertTrue(leap.isLeapMonth());
+    assertEquals(3, leap.getMonthOfYear());
+    assertEquals(15, leap.getDayOfMonth());
+    LunarChronoLocalDate third = date.plus(3, ChronoUnit.MONTHS);
+    assertEquals(3, third.getMonth());
+    assertEquals(4, third.getMonthOfYear());
+    assertEquals(second, third.minus(2, ChronoUnit.MONTHS));
+    // the leap month falls back to the regular month of a year without it
+    assertEquals(LunarChronoLocalDate.of(2024, 2, false, 15), leap.plus(1, ChronoUnit.YEARS));
+  }
+
+  @Test
+  void plusMonthsClampsDay() {
+    for (int monthOfYear = 1; monthOfYear < 13; monthOfYear++) {
+      LunarChronoLocalDate first = LunarChronoLocalDate.of(2023, monthOfYear, 1);
+      LunarChronoLocalDate next = first.plus(1, ChronoUnit.MONTHS);
+      LunarChronoLocalDate last = first.with(ChronoField.DAY_OF_MONTH, first.lengthOfMonth());
+      assertEquals(next.with(ChronoField.DAY_OF_MONTH,
+          Math.min(first.lengthOfMonth(), next.lengthOfMonth())), last.plus(1, ChronoUnit.MONTHS));
+    }
+  }
+
+  @Test
+  void withDayOfMonth() {
+    LunarChronoLocalDate date = LunarChronoLocalDate.of(2023, 2, true, 15);
+    LunarChronoLocalDate first = date.with(ChronoField.DAY_OF_MONTH, 1);
+    assertEquals(LunarChronoLocalDate.of(2023, 2, true, 1), first);
+    assertEquals(date.toEpochDay() - 14, first.toEpochDay());
+    assertEquals(29, date.lengthOfMonth());
+    assertThrows(DateTimeException.class, () -> date.with(ChronoField.DAY_OF_MONTH, 30));
+    assertThrows(DateTimeException.class, () -> date.with(ChronoField.DAY_OF_MONTH, 0));
+  }
+
+  @Test
+  void until() {
+    LunarChronoLocalDate start = LunarChronoLocalDate.of(2023, 1, false, 15);
+    LunarChronoLocalDate end = LunarChronoLocalDate.of(2023, 3, false, 15);
+    assertEquals(3, start.until(end, ChronoUnit.MONTHS));
+    assertEquals(2, start.until(end.minus(1, ChronoUnit.DAYS), ChronoUnit.MONTHS));
+    assertEquals(-3, end.until(start, ChronoUnit.MONTHS));
+    assertEquals(end.toEpochDay() - start.toEpochDay(), start.until(end, ChronoUnit.DAYS));
+    LunarChronoLocalDate nextYear = LunarChronoLocalDate.of(2024, 1, false, 20);
+    assertEquals(1, start.until(nextYear, ChronoUnit.YEARS));
+    assertEquals(LunarChronology.INSTANCE.period(1, 0, 5), start.until(nextYear));
+    assertEquals(nextYear, start.plus(start.until(nextYear)));
+  }
+
+  @Test
+  void dateTimeFormatter() {
+    LunarChronoLocalDate date = LunarChronoLocalDate.of(2023, 2, true, 15);
+    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    // MONTH_OF_YEAR counts the leap month, 闰二月 is the third month of 2023
+    assertEquals("2023-03-15", formatter.format(date));
+    LocalDate gregorian = LocalDate.ofEpochDay(date.toEpochDay());
+    assertEquals("2023-03-15",
+        formatter.withChronology(LunarChronology.INSTANCE).format(gregorian));
+  }
+
+  private static Object roundTrip(Object object) throws IOException, ClassNotFoundException {
+    return deserialize(serialize(object));
+  }
+
+  private static byte[] serialize(Object object) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(object);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return in.readObject();
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package cn.aethli.lunar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.LongBuffer;
+import org.junit.jupiter.api.Test;
+
+/**
+ * column output of LunarColumns against single day conversion
+ *
+ * @author selcarpa
+ **/
+class LunarColumnsTest {
+
+  @Test
+  void columnsMatchPacked() {
+    int length = LunarTable.MAX_EPOCH_DAY - LunarTable.MIN_EPOCH_DAY + 3;
+    long[] epochDays = new long[length];
+    for (int i = 0; i < length; i++) {
+      epochDays[i] = LunarTable.MIN_EPOCH_DAY - 1 + i;
+    }
+    int[] years = new int[length];
+    byte[] months = new byte[length];
+    byte[] days = new byte[length];
+    byte[] leaps = new byte[length];
+    LunarColumns.toLunarColumns(epochDays, years, months, days, leaps);
+    assertColumns(epochDays, years, months, days, leaps);
+    years = new int[length];
+    months = new byte[length];
+    days = new byte[length];
+    leaps = new byte[length];
+    LunarColumns.toLunarColumns(LongBuffer.wrap(epochDays), years, months, days, leaps);
+    assertColumns(epochDays, years, months, days, leaps);
+  }
+
+  private static void assertColumns(long[] epochDays, int[] years, byte[] months, byte[] days,
+      byte[] leaps) {
+    for (int i = 0; i < epochDays.length; i++) {
+      int packed = LunarDate.tryToLunarPacked(epochDays[i]);
+      if (packed == LunarDate.INVALID_PACKED) {
+        assertEquals(0, years[i] | months[i] | days[i] | leaps[i]);
+        continue;
+      }
+      assertEquals(LunarDate.packedYear(packed), years[i]);
+      assertEquals(LunarDate.packedMonth(packed), months[i]);
+      assertEquals(LunarDate.packedDay(packed), days[i]);
+      assertEquals(LunarDate.isPackedLeap(packed) ? 1 : 0, leaps[i]);
+    }
+  }
+
+  @Test
+  void shortDestinationIsRejected() {
+    long[] epochDays = new long[4];
+    assertThrows(IndexOutOfBoundsException.class,
+        () -> LunarColumns.toLunarPacked(epochDays, new int[3]));
+    assertThrows(IndexOutOfBoundsException.class,
+        () -> LunarColumns.toLunarPacked(LongBuffer.wrap(epochDays, 1, 3), new int[2]));
+    assertThrows(IndexOutOfBoundsException.class,
+        () -> LunarColumns.toLunarColumns(epochDays, new int[4], new byte[4], new byte[3],
+            new byte[4]));
+  }
+}
@@ -0,0 +1,45 @@
+package cn.aethli.lunar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import cn.aethli.lunar.exception.LunarException;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+/**
+ * plusDays on lunar calendar
+ *
+ * @author selcarpa
+ **/
+class LunarDateArithmeticTest {
+
+  private static final long[] DAYS = {1, -1, 15, -15, 29, -29, 30, -30, 355, -384, 10000};
+
+  @Test
+  void plusDaysMatchesGregorian() throws LunarException {
+    for (long epochDay = LunarTable.MIN_EPOCH_DAY; epochDay <= LunarTable.MAX_EPOCH_DAY;
+        epochDay += 7) {
+      LunarDate lunarDate = LunarDate.ofEpochDay(epochDay);
+      for (long days : DAYS) {
+        long target = epochDay + days;
+        if (target >= LunarTable.MIN_EPOCH_DAY && target <= LunarTable.MAX_EPOCH_DAY) {
+          assertEquals(LunarDate.ofEpochDay(target), lunarDate.plusDays(days));
+        } else {
+          assertThrows(LunarException.class, () -> lunarDate.plusDays(days));
+        }
+      }
+    }
+  }
+
+  @Test
+  void plusDaysRejectsExtremes() throws LunarException {
+    LunarDate lunarDate = LunarDate.ofDay(LocalDate.of(2024, 3, 1));
+    assertSame(lunarDate, lunarDate.plusDays(0));
+    assertThrows(LunarException.class, () -> lunarDate.plusDays(Long.MIN_VALUE));
+    assertThrows(LunarException.class, () -> lunarDate.plusDays(Long.MAX_VALUE));
+    assertThrows(LunarException.class, () -> lunarDate.plusDays(Integer.MIN_VALUE));
+    assertThrows(LunarException.class, () -> lunarDate.plusDays(Integer.MAX_VALUE + 1L));
+  }
+}
@@ -0,0 +1,68 @@
+package cn.aethli.lunar;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import cn.aethli.lunar.exception.LunarException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+/**
+ * encoding and decoding of LunarDateCodec
+ *
+ * @author selcarpa
+ **/
+class LunarDateCodecTest {
+
+  @Test
+  void roundTrip() throws LunarException {
+    LunarDate[] lunarDates = LunarDate.ofMonth(LocalDate.of(2023, 3, 1));
+    int[] packed = new int[lunarDates.length];
+    for (int i = 0; i < packed.length; i++) {
+      packed[i] = LunarDate.toLunarPacked(lunarDates[i].toEpochDay());
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(LunarDateCodec.encodedSize(packed.length) * 2 + 3);
+    buffer.put((byte) 1);
+    LunarDateCodec.encode(lunarDates, buffer);
+    LunarDateCodec.encodePacked(packed, buffer);
+    assertEquals(1 + LunarDateCodec.encodedSize(packed.length) * 2, buffer.position());
+    buffer.flip();
+    buffer.get();
+    assertArrayEquals(lunarDates, LunarDateCodec.decode(buffer));
+    assertArrayEquals(packed, LunarDateCodec.decodePacked(buffer));
+    assertEquals(0, buffer.remaining());
+  }
+
+  @Test
+  void tooSmallDestinationIsUntouched() {
+    int[] packed = {1, 2, 3};
+    ByteBuffer buffer = ByteBuffer.allocate(LunarDateCodec.encodedSize(packed.length) - 1);
+    assertThrows(BufferOverflowException.class,
+        () -> LunarDateCodec.encodePacked(packed, buffer));
+    assertThrows(BufferOverflowException.class,
+        () -> LunarDateCodec.encode(new LunarDate[3], buffer));
+    assertEquals(0, buffer.position());
+    assertArrayEquals(new byte[buffer.capacity()], buffer.array());
+  }
+
+  @Test
+  void invalidCountIsNotConsumed() {
+    ByteBuffer buffer = ByteBuffer.allocate(8);
+    buffer.putInt(5).putInt(1).flip();
+    assertThrows(LunarException.class, () -> LunarDateCodec.decodePacked(buffer));
+    assertEquals(0, buffer.position());
+  }
+
+  @Test
+  void invalidDateIsNotConsumed() throws LunarException {
+    ByteBuffer buffer = ByteBuffer.allocate(LunarDateCodec.encodedSize(3));
+    LunarDate lunarDate = LunarDate.ofDay(LocalDate.of(2024, 2, 10));
+    buffer.putInt(3).putInt((int) lunarDate.toEpochDay()).putInt(LunarTable.MAX_EPOCH_DAY + 1)
+        .putInt((int) lunarDate.toEpochDay()).flip();
+    assertThrows(LunarException.class, () -> LunarDateCodec.decode(buffer));
+    assertEquals(0, buffer.position());
+  }
+}
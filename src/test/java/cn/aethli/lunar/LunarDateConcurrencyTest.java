@@ -0,0 +1,178 @@
+package cn.aethli.lunar;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import cn.aethli.lunar.LunarDate.LeapType;
+import cn.aethli.lunar.exception.LunarException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * converts the whole supported range from many threads at once, and compares every result with
+ * a single-threaded baseline, with LunarDateCache disabled and enabled
+ *
+ * @author selcarpa
+ **/
+class LunarDateConcurrencyTest {
+
+  private static final int THREADS = 8;
+  private static final int DAYS = LunarTable.MAX_EPOCH_DAY - LunarTable.MIN_EPOCH_DAY + 1;
+  /**
+   * toString of every day, converted by one thread
+   */
+  private static String[] baseline;
+  /**
+   * toString of every day of every lunar month by ofMonth, converted by one thread
+   */
+  private static String[][] monthBaseline;
+
+  @BeforeAll
+  static void convertSingleThreaded() throws LunarException {
+    LunarDateCache.disable();
+    baseline = new String[DAYS];
+    for (int i = 0; i < DAYS; i++) {
+      baseline[i] = LunarDate.ofEpochDay(LunarTable.MIN_EPOCH_DAY + i).toString();
+    }
+    monthBaseline = convertMonths();
+  }
+
+  @AfterEach
+  void disableCache() {
+    LunarDateCache.disable();
+  }
+
+  @Test
+  void concurrentConversionWithoutCache() throws Exception {
+    LunarDate[][] results = convertConcurrently();
+    for (LunarDate[] result : results) {
+      for (int i = 0; i < DAYS; i++) {
+        assertEquals(baseline[i], result[i].toString());
+      }
+    }
+  }
+
+  @Test
+  void concurrentConversionWithCache() throws Exception {
+    LunarDateCache.enable();
+    LunarDate[][] results = convertConcurrently();
+    for (LunarDate[] result : results) {
+      for (int i = 0; i < DAYS; i++) {
+        assertEquals(baseline[i], result[i].toString());
+        assertSame(results[0][i], result[i]);
+      }
+    }
+  }
+
+  @Test
+  void concurrentMonthsWithoutCache() throws Exception {
+    for (String[][] months : convertMonthsConcurrently()) {
+      assertMonths(months);
+    }
+  }
+
+  @Test
+  void concurrentMonthsWithCache() throws Exception {
+    LunarDateCache.enable();
+    for (String[][] months : convertMonthsConcurrently()) {
+      assertMonths(months);
+    }
+  }
+
+  private static void assertMonths(String[][] months) {
+    for (int i = 0; i < monthBaseline.length; i++) {
+      assertArrayEquals(monthBaseline[i], months[i]);
+    }
+  }
+
+  /**
+   * every thread converts the whole range, starting at a different day and mixing gregorian and
+   * lunar entry points
+   */
+  private static LunarDate[][] convertConcurrently() throws Exception {
+    return runConcurrently(thread -> {
+      LunarDate[] result = new LunarDate[DAYS];
+      int start = DAYS / THREADS * thread;
+      for (int n = 0; n < DAYS; n++) {
+        int i = (start + n) % DAYS;
+        LunarDate lunarDate = LunarDate.ofDay(LocalDate.ofEpochDay(LunarTable.MIN_EPOCH_DAY + i));
+        if ((thread & 1) == 1) {
+          lunarDate = LunarDate.ofDay(lunarDate.getYear(), lunarDate.getMonth(),
+              lunarDate.getDay(), lunarDate.getLeapType());
+        }
+        result[i] = lunarDate;
+      }
+      return result;
+    }, new LunarDate[THREADS][]);
+  }
+
+  private static String[][][] convertMonthsConcurrently() throws Exception {
+    return runConcurrently(thread -> convertMonths(), new String[THREADS][][]);
+  }
+
+  /**
+   * @return toString of every day of every lunar month, in order
+   */
+  private static String[][] convertMonths() throws LunarException {
+    List<String[]> months = new ArrayList<>();
+    for (int year = LunarTable.MIN_LUNAR_YEAR; year <= LunarTable.MAX_LUNAR_YEAR; year++) {
+      for (int month = 1; month <= 12; month++) {
+        months.add(toStrings(LunarDate.ofMonth(year, month, LeapType.NOT_LEAP)));
+        if (LunarDate.isValid(year, month, 1, LeapType.LEAP_1)) {
+          months.add(toStrings(LunarDate.ofMonth(year, month, LeapType.LEAP_1)));
+        }
+      }
+    }
+    return months.toArray(new String[0][]);
+  }
+
+  private static String[] toStrings(LunarDate[] lunarDates) {
+    String[] strings = new String[lunarDates.length];
+    for (int i = 0; i < lunarDates.length; i++) {
+      strings[i] = lunarDates[i].toString();
+    }
+    return strings;
+  }
+
+  /**
+   * run a task on every thread, all released at the same time
+   */
+  private static <T> T[] runConcurrently(Task<T> task, T[] results) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      CountDownLatch ready = new CountDownLatch(THREADS);
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<T>> futures = new ArrayList<>();
+      for (int thread = 0; thread < THREADS; thread++) {
+        int index = thread;
+        futures.add(executor.submit(() -> {
+          ready.countDown();
+          start.await();
+          return task.run(index);
+        }));
+      }
+      ready.await();
+      start.countDown();
+      for (int thread = 0; thread < THREADS; thread++) {
+        results[thread] = futures.get(thread).get();
+      }
+      return results;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private interface Task<T> {
+
+    T run(int thread) throws LunarException;
+  }
+}
@@ -0,0 +1,77 @@
+package cn.aethli.lunar;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import cn.aethli.lunar.exception.LunarException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+/**
+ * range, rangePacked and ofMonth expansion
+ *
+ * @author selcarpa
+ **/
+class LunarDateRangeTest {
+
+  private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+  private static final LocalDate TO = LocalDate.of(2024, 1, 11);
+
+  @Test
+  void rangePackedFillsFromOffset() throws LunarException {
+    int[] packed = new int[12];
+    assertEquals(10, LunarDate.rangePacked(FROM, TO, packed, 2));
+    int[] expected = new int[12];
+    for (int i = 0; i < 10; i++) {
+      expected[i + 2] = LunarDate.toLunarPacked(FROM.toEpochDay() + i);
+    }
+    assertArrayEquals(expected, packed);
+  }
+
+  @Test
+  void rangePackedRejectsBadOffset() {
+    int[] packed = new int[10];
+    assertThrows(IndexOutOfBoundsException.class,
+        () -> LunarDate.rangePacked(FROM, TO, packed, Integer.MAX_VALUE - 5));
+    assertThrows(IndexOutOfBoundsException.class,
+        () -> LunarDate.rangePacked(FROM, TO, packed, -1));
+    assertThrows(IndexOutOfBoundsException.class,
+        () -> LunarDate.rangePacked(FROM, TO, packed, 1));
+    assertThrows(IndexOutOfBoundsException.class,
+        () -> LunarDate.rangePacked(FROM, TO, packed, 11));
+  }
+
+  @Test
+  void reversedRangeIsRejectedWithoutStackTrace() {
+    LunarException e = assertThrows(LunarException.class, () -> LunarDate.range(TO, FROM));
+    assertEquals("end date is before start date", e.getMessage());
+    assertEquals(0, e.getStackTrace().length);
+    assertThrows(LunarException.class, () -> LunarDate.rangePacked(TO, FROM, new int[20], 0));
+  }
+
+  @Test
+  void rangeAndMonthShareCachedInstances() throws LunarException {
+    LunarDateCache.enable();
+    try {
+      List<LunarDate> range = LunarDate.range(FROM, TO).collect(Collectors.toList());
+      for (int i = 0; i < range.size(); i++) {
+        assertSame(LunarDate.ofDay(FROM.plusDays(i)), range.get(i));
+      }
+      List<LunarDate> parallel = LunarDate.range(FROM, FROM.plusYears(1)).parallel()
+          .collect(Collectors.toList());
+      for (int i = 0; i < parallel.size(); i++) {
+        assertSame(LunarDate.ofDay(FROM.plusDays(i)), parallel.get(i));
+      }
+      LunarDate[] month = LunarDate.ofMonth(FROM);
+      for (int i = 0; i < month.length; i++) {
+        assertSame(LunarDate.ofDay(FROM.plusDays(i)), month[i]);
+      }
+    } finally {
+      LunarDateCache.disable();
+    }
+  }
+}
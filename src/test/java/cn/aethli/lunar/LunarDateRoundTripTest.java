@@ -0,0 +1,105 @@
+package cn.aethli.lunar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cn.aethli.lunar.LunarDate.LeapType;
+import cn.aethli.lunar.exception.LunarException;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+/**
+ * exhaustive round trip of every supported day, and leap month numbering
+ *
+ * @author selcarpa
+ **/
+class LunarDateRoundTripTest {
+
+  /**
+   * lunar years with a leap month and the leap month, 1901 to 2050
+   */
+  private static final int[][] LEAP_MONTHS = {
+      {1903, 5}, {1906, 4}, {1909, 2}, {1911, 6}, {1914, 5}, {1917, 2}, {1919, 7}, {1922, 5},
+      {1925, 4}, {1928, 2}, {1930, 6}, {1933, 5}, {1936, 3}, {1938, 7}, {1941, 6}, {1944, 4},
+      {1947, 2}, {1949, 7}, {1952, 5}, {1955, 3}, {1957, 8}, {1960, 6}, {1963, 4}, {1966, 3},
+      {1968, 7}, {1971, 5}, {1974, 4}, {1976, 8}, {1979, 6}, {1982, 4}, {1984, 10}, {1987, 6},
+      {1990, 5}, {1993, 3}, {1995, 8}, {1998, 5}, {2001, 4}, {2004, 2}, {2006, 7}, {2009, 5},
+      {2012, 4}, {2014, 9}, {2017, 6}, {2020, 4}, {2023, 2}, {2025, 6}, {2028, 5}, {2031, 3},
+      {2033, 11}, {2036, 6}, {2039, 5}, {2042, 2}, {2044, 7}, {2047, 5}, {2050, 3}};
+
+  @Test
+  void everyDayRoundTrips() throws LunarException {
+    for (long epochDay = LunarTable.MIN_EPOCH_DAY; epochDay <= LunarTable.MAX_EPOCH_DAY;
+        epochDay++) {
+      LunarDate lunarDate = LunarDate.ofEpochDay(epochDay);
+      assertEquals(epochDay, lunarDate.getGregorianDate().toEpochDay());
+      assertEquals(epochDay, lunarDate.toEpochDay());
+
+      int packed = LunarDate.toLunarPacked(epochDay);
+      assertEquals(lunarDate.getYear(), LunarDate.packedYear(packed));
+      assertEquals(lunarDate.getMonth(), LunarDate.packedMonth(packed));
+      assertEquals(lunarDate.getDay(), LunarDate.packedDay(packed));
+      assertEquals(lunarDate.getLeapType() == LeapType.LEAP_1, LunarDate.isPackedLeap(packed));
+      assertEquals(epochDay, LunarDate.fromLunarPacked(packed));
+
+      LunarDate fromLunar = LunarDate.ofDay(lunarDate.getYear(), lunarDate.getMonth(),
+          lunarDate.getDay(), lunarDate.getLeapType());
+      assertEquals(epochDay, fromLunar.getGregorianDate().toEpochDay());
+    }
+  }
+
+  @Test
+  void outOfRangeIsRejected() {
+    assertThrows(LunarException.class, () -> LunarDate.ofEpochDay(LunarTable.MIN_EPOCH_DAY - 1));
+    assertThrows(LunarException.class, () -> LunarDate.ofEpochDay(LunarTable.MAX_EPOCH_DAY + 1));
+    assertThrows(LunarException.class,
+        () -> LunarDate.toLunarPacked(LunarTable.MAX_EPOCH_DAY + 1));
+  }
+
+  @Test
+  void leapMonthsMatchBaseline() throws LunarException {
+    int next = 0;
+    for (int year = LunarTable.MIN_LUNAR_YEAR; year <= 2050; year++) {
+      int leapMonth = next < LEAP_MONTHS.length && LEAP_MONTHS[next][0] == year
+          ? LEAP_MONTHS[next++][1] : 0;
+      for (int month = 1; month <= 12; month++) {
+        assertEquals(month == leapMonth, LunarDate.isValid(year, month, 1, LeapType.LEAP_1),
+            year + "-" + month);
+      }
+    }
+  }
+
+  @Test
+  void monthsAroundLeapMonth() throws LunarException {
+    // 2023 has 闰二月
+    assertLunar(LocalDate.of(2023, 2, 20), 2023, 2, 1, LeapType.NOT_LEAP);
+    assertLunar(LocalDate.of(2023, 3, 22), 2023, 2, 1, LeapType.LEAP_1);
+    assertLunar(LocalDate.of(2023, 4, 20), 2023, 3, 1, LeapType.NOT_LEAP);
+    assertLunar(LocalDate.of(2024, 2, 9), 2023, 12, 30, LeapType.NOT_LEAP);
+    // 2033 has 闰十一月
+    assertLunar(LocalDate.of(2033, 12, 22), 2033, 11, 1, LeapType.LEAP_1);
+    assertLunar(LocalDate.of(2034, 1, 20), 2033, 12, 1, LeapType.NOT_LEAP);
+
+    assertEquals("闰二月", LunarDate.ofDay(LocalDate.of(2023, 3, 22)).getMonthName());
+    assertEquals("三月", LunarDate.ofDay(LocalDate.of(2023, 4, 20)).getMonthName());
+    assertEquals(LunarDate.ofDay(2023, 2, 1, LeapType.NOT_LEAP),
+        LunarDate.ofDay(2023, 2, 1, LeapType.LEAP_0));
+    assertFalse(LunarDate.isValid(2024, 2, 1, LeapType.LEAP_1));
+    assertTrue(LunarDate.isValid(2023, 2, 29, LeapType.LEAP_1));
+    assertFalse(LunarDate.isValid(2023, 2, 30, LeapType.LEAP_1));
+  }
+
+  private static void assertLunar(LocalDate gregorianDate, int year, int month, int day,
+      LeapType leapType) throws LunarException {
+    LunarDate lunarDate = LunarDate.ofDay(gregorianDate);
+    String message = gregorianDate.toString();
+    assertEquals(year, lunarDate.getYear(), message);
+    assertEquals(month, lunarDate.getMonth(), message);
+    assertEquals(day, lunarDate.getDay(), message);
+    assertEquals(leapType == LeapType.LEAP_1, lunarDate.getLeapType() == LeapType.LEAP_1,
+        message);
+    assertEquals(gregorianDate, LunarDate.ofDay(year, month, day, leapType).getGregorianDate());
+  }
+}
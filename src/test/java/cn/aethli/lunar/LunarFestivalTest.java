@@ -0,0 +1,65 @@
+package cn.aethli.lunar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import cn.aethli.lunar.LunarDate.LeapType;
+import cn.aethli.lunar.exception.LunarException;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+/**
+ * festival lookups
+ *
+ * @author selcarpa
+ **/
+class LunarFestivalTest {
+
+  @Test
+  void afterDateIsDateOfAfter() throws LunarException {
+    for (long epochDay = LunarTable.MIN_EPOCH_DAY; epochDay <= LunarTable.MAX_EPOCH_DAY;
+        epochDay += 3) {
+      LocalDate date = LocalDate.ofEpochDay(epochDay);
+      LunarFestival festival = LunarFestival.after(date);
+      LocalDate festivalDate = LunarFestival.afterDate(date);
+      if (festival == null) {
+        assertNull(festivalDate);
+        continue;
+      }
+      assertEquals(festival, LunarFestival.of(festivalDate));
+      assertEquals(festival.next(date), festivalDate);
+    }
+  }
+
+  @Test
+  void afterDateOf2024() throws LunarException {
+    assertEquals(LunarFestival.CHUN_JIE, LunarFestival.after(LocalDate.of(2024, 2, 9)));
+    assertEquals(LocalDate.of(2024, 2, 10), LunarFestival.afterDate(LocalDate.of(2024, 2, 9)));
+    assertEquals(LocalDate.of(2024, 2, 24), LunarFestival.afterDate(LocalDate.of(2024, 2, 10)));
+  }
+
+  @Test
+  void chuXiOnLastDayOfLaYue() throws LunarException {
+    // 腊月 of lunar 2023 has 30 days, 腊月 of lunar 2024 has 29 days
+    assertEquals(LocalDate.of(2024, 2, 9), LunarFestival.CHU_XI.getDate(2023));
+    assertEquals(LunarDate.ofDay(2023, 12, 30, LeapType.NOT_LEAP),
+        LunarDate.ofDay(LocalDate.of(2024, 2, 9)));
+    assertEquals(LocalDate.of(2025, 1, 28), LunarFestival.CHU_XI.getDate(2024));
+    assertEquals(LunarDate.ofDay(2024, 12, 29, LeapType.NOT_LEAP),
+        LunarDate.ofDay(LocalDate.of(2025, 1, 28)));
+    assertEquals(LunarFestival.CHU_XI, LunarFestival.of(LocalDate.of(2025, 1, 28)));
+    assertNull(LunarFestival.of(LocalDate.of(2024, 2, 8)));
+    for (int year = LunarTable.MIN_LUNAR_YEAR; year <= LunarTable.MAX_LUNAR_YEAR; year++) {
+      LocalDate chuXi = LunarFestival.CHU_XI.getDate(year);
+      assertEquals(LunarFestival.CHU_XI, LunarFestival.of(chuXi));
+      if (year < LunarTable.MAX_LUNAR_YEAR) {
+        assertEquals(LunarFestival.CHUN_JIE, LunarFestival.after(chuXi));
+        assertEquals(LunarFestival.CHUN_JIE.getDate(year + 1), chuXi.plusDays(1));
+      } else {
+        assertEquals(LunarTable.MAX_EPOCH_DAY, chuXi.toEpochDay());
+        assertNull(LunarFestival.after(chuXi));
+        assertNull(LunarFestival.afterDate(chuXi));
+      }
+    }
+  }
+}
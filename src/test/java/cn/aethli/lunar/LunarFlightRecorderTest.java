@@ -0,0 +1,62 @@
+package cn.aethli.lunar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import cn.aethli.lunar.exception.LunarException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * events committed by LunarFlightRecorder
+ *
+ * @author selcarpa
+ **/
+class LunarFlightRecorderTest {
+
+  @AfterEach
+  void uninstall() {
+    LunarInstrumentation.uninstall();
+  }
+
+  @Test
+  void conversionAndRejectionAreRecorded() throws IOException, LunarException {
+    assumeTrue(LunarFlightRecorder.isAvailable());
+    assertTrue(LunarFlightRecorder.install());
+    Path file = Files.createTempFile("lunar", ".jfr");
+    try {
+      try (Recording recording = new Recording()) {
+        recording.enable(LunarFlightRecorder.CONVERSION);
+        recording.enable(LunarFlightRecorder.REJECTION);
+        recording.start();
+        LunarDate.ofDay(LocalDate.of(2024, 2, 10));
+        assertThrows(LunarException.class, () -> LunarDate.ofDay(LocalDate.of(1800, 1, 1)));
+        recording.stop();
+        recording.dump(file);
+      }
+      List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+      assertEquals(1, count(events, LunarFlightRecorder.CONVERSION));
+      assertEquals(1, count(events, LunarFlightRecorder.REJECTION));
+      for (RecordedEvent event : events) {
+        assertEquals(LunarMetrics.Operation.OF_DAY.name(), event.getString("operation"));
+        assertTrue(event.getLong("latency") >= 0);
+      }
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  private static long count(List<RecordedEvent> events, String name) {
+    return events.stream().filter(event -> event.getEventType().getName().equals(name)).count();
+  }
+}
@@ -0,0 +1,67 @@
+package cn.aethli.lunar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import cn.aethli.lunar.LunarDate.LeapType;
+import cn.aethli.lunar.exception.LunarException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * pattern compiling and formatting of LunarFormatter
+ *
+ * @author selcarpa
+ **/
+class LunarFormatterTest {
+
+  @Test
+  void quotes() throws LunarException {
+    LunarDate lunarDate = LunarDate.ofDay(2024, 1, 1, LeapType.NOT_LEAP);
+    assertEquals("'", format("''", lunarDate));
+    assertEquals("it's 2024", format("'it''s' y", lunarDate));
+    assertEquals("'2024'", format("''y''", lunarDate));
+    assertEquals("yyyy-2024", format("'yyyy'-yyyy", lunarDate));
+    assertThrows(IllegalArgumentException.class, () -> LunarFormatter.ofPattern("y 'it"));
+    assertThrows(IllegalArgumentException.class, () -> LunarFormatter.ofPattern("'it''"));
+  }
+
+  @Test
+  void yearWidth() throws LunarException {
+    LunarDate lunarDate = LunarDate.ofDay(2005, 3, 4, LeapType.NOT_LEAP);
+    assertEquals("05", format("yy", lunarDate));
+    assertEquals("2005", format("y", lunarDate));
+    assertEquals("2005", format("yyyy", lunarDate));
+    assertEquals("02005", format("yyyyy", lunarDate));
+    assertEquals("3-4 03-04", format("M-d MM-dd", lunarDate));
+  }
+
+  @Test
+  void leapMarks() throws LunarException {
+    LunarDate leap = LunarDate.ofDay(2023, 2, 5, LeapType.LEAP_1);
+    LunarDate regular = LunarDate.ofDay(2023, 2, 5, LeapType.NOT_LEAP);
+    assertEquals("02L|闰|闰月", format("MML|LL|LLL", leap));
+    assertEquals("02||非闰月", format("MML|LL|LLL", regular));
+    assertEquals("闰二月初五", format("MMMddd", leap));
+    assertEquals("二月初五", format("MMMddd", regular));
+  }
+
+  @Test
+  void invalidLetters() {
+    assertThrows(IllegalArgumentException.class, () -> LunarFormatter.ofPattern("LLLL"));
+    assertThrows(IllegalArgumentException.class, () -> LunarFormatter.ofPattern("yyyy-Q"));
+    assertThrows(IllegalArgumentException.class, () -> LunarFormatter.ofPattern("x"));
+  }
+
+  @Test
+  void toStringMatchesStringFormat() {
+    LunarDate.all().forEach(lunarDate -> assertEquals(String
+        .format("lunar:%s-%s-%s-%s-%s-%s(%s)\tgregorian:%s", lunarDate.getYearName(),
+            lunarDate.getMonthName(), lunarDate.getDayName(), lunarDate.getYear(),
+            lunarDate.getMonth(), lunarDate.getDay(), lunarDate.getLeapType().toString(),
+            lunarDate.getGregorianDate().toString()), lunarDate.toString()));
+  }
+
+  private static String format(String pattern, LunarDate lunarDate) {
+    return LunarFormatter.ofPattern(pattern).format(lunarDate);
+  }
+}
@@ -0,0 +1,80 @@
+package cn.aethli.lunar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cn.aethli.lunar.exception.LunarException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import org.junit.jupiter.api.Test;
+
+/**
+ * every cell of every supported month view against single day conversion and solar terms
+ *
+ * @author selcarpa
+ **/
+class LunarMonthViewTest {
+
+  private static final YearMonth FIRST = YearMonth.of(1901, 2);
+  private static final YearMonth LAST = YearMonth.of(2101, 1);
+
+  @Test
+  void everyMonthMatchesConversion() throws LunarException {
+    for (YearMonth yearMonth = FIRST; !yearMonth.isAfter(LAST);
+        yearMonth = yearMonth.plusMonths(1)) {
+      assertView(LunarMonthView.of(yearMonth, DayOfWeek.MONDAY));
+      assertView(LunarMonthView.of(yearMonth, DayOfWeek.SUNDAY));
+    }
+  }
+
+  @Test
+  void weekStarts() throws LunarException {
+    // 2024-09-01 is a sunday
+    YearMonth september = YearMonth.of(2024, 9);
+    LunarMonthView monday = LunarMonthView.of(september, DayOfWeek.MONDAY);
+    assertEquals(6, monday.getLeadingDays());
+    assertEquals(LocalDate.of(2024, 8, 26), monday.getDate(0));
+    assertEquals(36, monday.getEndCell());
+    LunarMonthView sunday = LunarMonthView.of(september, DayOfWeek.SUNDAY);
+    assertEquals(0, sunday.getLeadingDays());
+    assertEquals(LocalDate.of(2024, 9, 1), sunday.getDate(0));
+    assertEquals(30, sunday.getEndCell());
+  }
+
+  @Test
+  void outOfRangeMonthsAreRejected() {
+    assertThrows(LunarException.class,
+        () -> LunarMonthView.of(FIRST.minusMonths(1), DayOfWeek.MONDAY));
+    assertThrows(LunarException.class,
+        () -> LunarMonthView.of(LAST.plusMonths(1), DayOfWeek.MONDAY));
+  }
+
+  private static void assertView(LunarMonthView view) {
+    int starts = 0;
+    for (int cell = 0; cell < LunarMonthView.CELLS; cell++) {
+      long epochDay = view.getEpochDay(cell);
+      assertEquals(view.getFirstDayOfWeek(), view.getDate(cell).getDayOfWeek().minus(cell));
+      assertEquals(view.getYearMonth().equals(YearMonth.from(view.getDate(cell))),
+          view.isInMonth(cell));
+      int term = SolarTerm.termIndexOf(epochDay);
+      assertEquals(SolarTerm.termEpochDay(term) == epochDay ? SolarTerm.termAt(term) : null,
+          view.getSolarTerm(cell));
+      int packed = LunarDate.tryToLunarPacked(epochDay);
+      assertEquals(packed, view.getLunarPacked(cell), view.getDate(cell).toString());
+      if (packed == LunarDate.INVALID_PACKED) {
+        assertEquals(0, view.getLunarDay(cell));
+        continue;
+      }
+      assertEquals(LunarDate.packedDay(packed), view.getLunarDay(cell));
+      if (LunarDate.packedDay(packed) == 1) {
+        assertTrue(starts < view.getLunarMonthStartCount());
+        assertEquals(cell, view.getLunarMonthStart(starts++));
+      }
+    }
+    assertEquals(starts, view.getLunarMonthStartCount(), view.getYearMonth().toString());
+    assertThrows(IndexOutOfBoundsException.class, () -> view.getLunarMonthStart(
+        view.getLunarMonthStartCount()));
+  }
+}
@@ -0,0 +1,70 @@
+package cn.aethli.lunar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import cn.aethli.lunar.LunarDate.LeapType;
+import cn.aethli.lunar.exception.LunarException;
+import java.text.ParsePosition;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LunarParser against LunarFormatter output, and error indexes
+ *
+ * @author selcarpa
+ **/
+class LunarParserTest {
+
+  private static final String[] PATTERNS = {"yyyy-MML-dd", "N年MMMddd", "yyyy年MMMddd"};
+
+  @Test
+  void everyDayRoundTrips() {
+    for (String pattern : PATTERNS) {
+      LunarFormatter formatter = LunarFormatter.ofPattern(pattern);
+      LunarDate.all().forEach(lunarDate -> {
+        String text = formatter.format(lunarDate);
+        try {
+          assertEquals(lunarDate, LunarParser.parse(text), text);
+        } catch (LunarException e) {
+          throw new AssertionError(text, e);
+        }
+        ParsePosition position = new ParsePosition(0);
+        assertEquals(LunarDate.tryToLunarPacked(lunarDate.toEpochDay()),
+            LunarParser.parsePacked(text, position), text);
+        assertEquals(text.length(), position.getIndex());
+      });
+    }
+  }
+
+  @Test
+  void errorIndexes() {
+    assertErrorIndex(5, "二〇二四年闰二月十五");
+    assertErrorIndex(6, "2023年十三月初五");
+    assertErrorIndex(7, "2023年正月三十");
+    assertErrorIndex(0, "1900年正月初一");
+    assertErrorIndex(5, "2024-02L-15");
+  }
+
+  @Test
+  void trailingText() throws LunarException {
+    String text = "2023年闰二月十五日";
+    LunarException e = assertThrows(LunarException.class, () -> LunarParser.parse(text));
+    assertEquals("unexpected text at 10", e.getMessage());
+    ParsePosition position = new ParsePosition(0);
+    int packed = LunarParser.parsePacked(text, position);
+    assertEquals(10, position.getIndex());
+    assertEquals(-1, position.getErrorIndex());
+    assertEquals(LunarDate.packLunar(2023, 2, 15, true), packed);
+    assertEquals(LunarDate.ofDay(2023, 2, 15, LeapType.LEAP_1),
+        LunarParser.parse(text, 0, 10));
+  }
+
+  private static void assertErrorIndex(int errorIndex, String text) {
+    ParsePosition position = new ParsePosition(0);
+    assertEquals(LunarDate.INVALID_PACKED, LunarParser.parsePacked(text, position), text);
+    assertEquals(errorIndex, position.getErrorIndex(), text);
+    assertEquals(0, position.getIndex(), text);
+    LunarException e = assertThrows(LunarException.class, () -> LunarParser.parse(text));
+    assertEquals("cannot parse lunar date at " + errorIndex, e.getMessage());
+  }
+}
@@ -0,0 +1,94 @@
+package cn.aethli.lunar;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * lunar.dat is generated from src/build/lunar.txt, and external tables are validated
+ *
+ * @author selcarpa
+ **/
+class LunarTableDataTest {
+
+  @Test
+  void builtInTableMatchesSource() throws IOException {
+    byte[] generated = LunarTableGenerator.generate(
+        Files.readAllLines(Paths.get(LunarTableGenerator.SOURCE), StandardCharsets.UTF_8));
+    try (InputStream in = LunarTable.class.getResourceAsStream("lunar.dat")) {
+      byte[] builtIn = new byte[generated.length + 1];
+      int length = 0;
+      int read;
+      while (length < builtIn.length
+          && (read = in.read(builtIn, length, builtIn.length - length)) != -1) {
+        length += read;
+      }
+      assertArrayEquals(generated, Arrays.copyOf(builtIn, length));
+    }
+  }
+
+  @Test
+  void sourceIsChecked() {
+    assertGenerateFails("line 2", "1901 0 02-19 0100101011100000",
+        "1903 5 01-29 0101001001101000");
+    assertGenerateFails("line 1", "1901 0 02-30 0100101011100000");
+    assertGenerateFails("line 1", "1901 13 02-19 0100101011100000");
+    assertGenerateFails("line 1", "1901 0 02-19 0100101011100001");
+    assertGenerateFails("line 1", "1901 0 02-19 0100101011100000 # 30 30 29 29 30 29 30 29 30 "
+        + "30 30 29 354");
+  }
+
+  @Test
+  void invalidNewYearIsReported() throws Exception {
+    ByteBuffer table = ByteBuffer.allocate(4 * Integer.BYTES);
+    table.putInt(0x4c554e52).putInt(1901).putInt(1).putInt(0x4ae00000 | 2 << 8 | 30);
+    Path file = Files.createTempFile("lunar", ".dat");
+    try {
+      Files.write(file, table.array());
+      Throwable cause = loadTable(file).getCause();
+      assertTrue(cause instanceof IllegalStateException);
+      assertEquals("invalid chinese new year 2-30 of 1901", cause.getMessage());
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  private static void assertGenerateFails(String line, String... lines) {
+    List<String> source = Arrays.asList(lines);
+    IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+        () -> LunarTableGenerator.generate(source));
+    assertTrue(e.getMessage().startsWith(line + ":"), e.getMessage());
+  }
+
+  /**
+   * initialize LunarTable with an external table in a class loader of its own
+   */
+  private static ExceptionInInitializerError loadTable(Path file) throws IOException {
+    URL classes = LunarTable.class.getProtectionDomain().getCodeSource().getLocation();
+    String previous = System.setProperty(LunarTable.TABLE_PROPERTY, file.toString());
+    try (URLClassLoader loader = new URLClassLoader(new URL[]{classes}, null)) {
+      return assertThrows(ExceptionInInitializerError.class,
+          () -> Class.forName(LunarTable.class.getName(), true, loader));
+    } finally {
+      if (previous == null) {
+        System.clearProperty(LunarTable.TABLE_PROPERTY);
+      } else {
+        System.setProperty(LunarTable.TABLE_PROPERTY, previous);
+      }
+    }
+  }
+}
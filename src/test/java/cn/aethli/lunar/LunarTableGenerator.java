@@ -0,0 +1,143 @@
+package cn.aethli.lunar;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>generate the calendar table lunar.dat from its text source src/build/lunar.txt, see
+ * {@link LunarTable} for the binary layout
+ * <p>a line of text source: year, leap month, gregorian month-day of chinese new year,
+ * DaysPerMonth in binary, then after # the days of each month and the days of the year. Blank
+ * lines and lines starting with # are skipped. Years must be continuous, and the day columns must
+ * match DaysPerMonth
+ * <p>usage, from the project directory:
+ * <p>      mvn test-compile
+ * <p>      java -cp target/test-classes cn.aethli.lunar.LunarTableGenerator src/build/lunar.txt
+ * src/main/resources/cn/aethli/lunar/lunar.dat
+ *
+ * @author selcarpa
+ **/
+public final class LunarTableGenerator {
+
+  static final String SOURCE = "src/build/lunar.txt";
+  private static final int TABLE_MAGIC = 0x4c554e52;
+
+  private LunarTableGenerator() {
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      System.err.println("usage: LunarTableGenerator <source> <output>");
+      System.exit(2);
+    }
+    byte[] table = generate(Files.readAllLines(Paths.get(args[0]), StandardCharsets.UTF_8));
+    Files.write(Paths.get(args[1]), table);
+    System.out.println("wrote " + table.length + " bytes to " + args[1]);
+  }
+
+  /**
+   * @param lines lines of text source
+   * @return calendar table
+   * @throws IllegalArgumentException if the text source is invalid, with line number
+   */
+  static byte[] generate(List<String> lines) {
+    List<Integer> yearInfos = new ArrayList<>();
+    int firstYear = 0;
+    LocalDate nextNewYear = null;
+    for (int n = 0; n < lines.size(); n++) {
+      String line = lines.get(n).trim();
+      if (line.isEmpty() || line.startsWith("#")) {
+        continue;
+      }
+      try {
+        int comment = line.indexOf('#');
+        String[] fields = (comment < 0 ? line : line.substring(0, comment)).trim().split("\\s+");
+        if (fields.length != 4) {
+          throw new IllegalArgumentException("expect 4 fields before #");
+        }
+        int year = Integer.parseInt(fields[0]);
+        int leapMonth = Integer.parseInt(fields[1]);
+        String[] monthDay = fields[2].split("-");
+        if (monthDay.length != 2) {
+          throw new IllegalArgumentException("new year is not month-day: " + fields[2]);
+        }
+        LocalDate newYear = LocalDate.of(year, Integer.parseInt(monthDay[0]),
+            Integer.parseInt(monthDay[1]));
+        if (!fields[3].matches("[01]{16}")) {
+          throw new IllegalArgumentException("DaysPerMonth is not 16 binary digits");
+        }
+        int daysPerMonth = Integer.parseInt(fields[3], 2);
+        if (leapMonth < 0 || leapMonth > 12) {
+          throw new IllegalArgumentException("leap month out of 0 to 12: " + leapMonth);
+        }
+        int monthCount = leapMonth == 0 ? 12 : 13;
+        if ((daysPerMonth & (1 << 16 - monthCount) - 1) != 0) {
+          throw new IllegalArgumentException("DaysPerMonth has bits after month " + monthCount);
+        }
+        int[] days = new int[monthCount];
+        int yearLength = 0;
+        for (int i = 0; i < monthCount; i++) {
+          days[i] = (daysPerMonth >>> 15 - i & 1) == 0 ? 29 : 30;
+          yearLength += days[i];
+        }
+        if (comment >= 0) {
+          checkColumns(line.substring(comment + 1).trim(), days, yearLength);
+        }
+        if (nextNewYear == null) {
+          firstYear = year;
+        } else if (year != firstYear + yearInfos.size() || !newYear.equals(nextNewYear)) {
+          throw new IllegalArgumentException("not continuous, expect year "
+              + (firstYear + yearInfos.size()) + " starting " + nextNewYear);
+        }
+        nextNewYear = newYear.plusDays(yearLength);
+        yearInfos.add(daysPerMonth << 16 | leapMonth << 12 | newYear.getMonthValue() << 8
+            | newYear.getDayOfMonth());
+      } catch (IllegalArgumentException | DateTimeException e) {
+        throw new IllegalArgumentException("line " + (n + 1) + ": " + e.getMessage(), e);
+      }
+    }
+    if (yearInfos.isEmpty()) {
+      throw new IllegalArgumentException("no year in text source");
+    }
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeInt(TABLE_MAGIC);
+      out.writeInt(firstYear);
+      out.writeInt(yearInfos.size());
+      for (int yearInfo : yearInfos) {
+        out.writeInt(yearInfo);
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * check the readable day columns against DaysPerMonth
+   */
+  private static void checkColumns(String columns, int[] days, int yearLength) {
+    String[] values = columns.split("\\s+");
+    if (values.length != days.length + 1) {
+      throw new IllegalArgumentException("expect " + days.length + " months and #Days after #");
+    }
+    for (int i = 0; i < days.length; i++) {
+      if (Integer.parseInt(values[i]) != days[i]) {
+        throw new IllegalArgumentException("D" + (i + 1) + " is " + values[i]
+            + " but DaysPerMonth says " + days[i]);
+      }
+    }
+    if (Integer.parseInt(values[days.length]) != yearLength) {
+      throw new IllegalArgumentException("#Days is " + values[days.length]
+          + " but DaysPerMonth says " + yearLength);
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package cn.aethli.lunar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cn.aethli.lunar.exception.LunarException;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+/**
+ * solar term dates and the engine behind them
+ *
+ * @author selcarpa
+ **/
+class SolarTermTest {
+
+  /**
+   * julian day of 2000-01-01 0h
+   */
+  private static final double JD_2000 = 2451544.5;
+
+  @Test
+  void knownTermDates() throws LunarException {
+    assertEquals(LocalDate.of(2024, 2, 4), SolarTerm.LI_CHUN.getDate(2024));
+    assertEquals(LocalDate.of(2000, 12, 21), SolarTerm.DONG_ZHI.getDate(2000));
+    assertEquals(LocalDate.of(2024, 3, 20), SolarTerm.CHUN_FEN.getDate(2024));
+    assertEquals(LocalDate.of(2024, 6, 21), SolarTerm.XIA_ZHI.getDate(2024));
+    assertEquals(LocalDate.of(2024, 9, 22), SolarTerm.QIU_FEN.getDate(2024));
+    assertEquals(LocalDate.of(2024, 12, 21), SolarTerm.DONG_ZHI.getDate(2024));
+    assertEquals(LocalDate.of(2023, 4, 5), SolarTerm.QING_MING.getDate(2023));
+    assertEquals(LocalDate.of(2021, 2, 3), SolarTerm.LI_CHUN.getDate(2021));
+    assertEquals(LocalDate.of(2025, 2, 3), SolarTerm.LI_CHUN.getDate(2025));
+    assertEquals(LocalDate.of(2015, 12, 22), SolarTerm.DONG_ZHI.getDate(2015));
+  }
+
+  @Test
+  void datesAreInChinaStandardTime() throws LunarException {
+    // 2022-12-21 21:48 UT and 2023-03-20 21:24 UT, the next day in China
+    assertEquals(LocalDate.of(2022, 12, 22), SolarTerm.DONG_ZHI.getDate(2022));
+    assertEquals(LocalDate.of(2023, 3, 21), SolarTerm.CHUN_FEN.getDate(2023));
+  }
+
+  @Test
+  void engineMoments() {
+    // 2000-12-21 13:37 UT, 2022-12-21 21:48 UT, 2024-02-04 08:27 UT
+    assertEquals(JD_2000 + 355 + (13 + 37 / 60.0) / 24, SolarTermEngine.julianDay(2000, 23),
+        2.0 / 1440);
+    assertEquals(JD_2000 + 8390 + (21 + 48 / 60.0) / 24, SolarTermEngine.julianDay(2022, 23),
+        2.0 / 1440);
+    assertEquals(JD_2000 + 8800 + (8 + 27 / 60.0) / 24, SolarTermEngine.julianDay(2024, 2),
+        2.0 / 1440);
+    // Meeus, Astronomical Algorithms, example 25.b: 1992-10-13 0h TD, 199.907347 degrees
+    assertEquals(199.907347 - 360,
+        Math.toDegrees(SolarTermEngine.apparentLongitude(2448908.5)), 0.005);
+    assertEquals(63.86, SolarTermEngine.deltaT(2000), 0.01);
+  }
+
+  @Test
+  void firstSupportedDays() throws LunarException {
+    LocalDate min = LocalDate.ofEpochDay(LunarTable.MIN_EPOCH_DAY);
+    assertEquals(LocalDate.of(1901, 2, 19), min);
+    assertEquals(SolarTerm.YU_SHUI, SolarTerm.of(min));
+    assertEquals(min, SolarTerm.startOf(min));
+    assertEquals(SolarTerm.JING_ZHE, SolarTerm.next(min));
+    assertEquals(LocalDate.of(1901, 3, 6), SolarTerm.nextStartOf(min));
+    assertEquals(LocalDate.of(1901, 2, 4), SolarTerm.LI_CHUN.getDate(1901));
+    assertThrows(LunarException.class, () -> SolarTerm.of(min.minusDays(1)));
+    assertThrows(LunarException.class, () -> SolarTerm.startOf(min.minusDays(1)));
+    assertThrows(LunarException.class, () -> SolarTerm.LI_CHUN.getDate(1900));
+  }
+
+  @Test
+  void lastSupportedDays() throws LunarException {
+    LocalDate max = LocalDate.ofEpochDay(LunarTable.MAX_EPOCH_DAY);
+    assertEquals(LocalDate.of(2101, 1, 28), max);
+    assertEquals(SolarTerm.DA_HAN, SolarTerm.of(max));
+    assertEquals(LocalDate.of(2101, 1, 20), SolarTerm.startOf(max));
+    assertEquals(SolarTerm.LI_CHUN, SolarTerm.next(max));
+    assertEquals(LocalDate.of(2101, 2, 4), SolarTerm.nextStartOf(max));
+    assertEquals(SolarTerm.nextStartOf(max), SolarTerm.LI_CHUN.getDate(2101));
+    assertThrows(LunarException.class, () -> SolarTerm.of(max.plusDays(1)));
+    assertThrows(LunarException.class, () -> SolarTerm.nextStartOf(max.plusDays(1)));
+    assertThrows(LunarException.class, () -> SolarTerm.LI_CHUN.getDate(2102));
+  }
+
+  @Test
+  void tableIsStrictlyIncreasing() {
+    for (int i = 1; i < SolarTerm.termCount(); i++) {
+      int days = SolarTerm.termEpochDay(i) - SolarTerm.termEpochDay(i - 1);
+      assertTrue(days >= 14 && days <= 16, "term " + i + " is " + days + " days after");
+      assertEquals(SolarTerm.values()[i % 24], SolarTerm.termAt(i));
+    }
+  }
+
+  @Test
+  void startOfContainsEveryDay() throws LunarException {
+    for (long epochDay = LunarTable.MIN_EPOCH_DAY; epochDay <= LunarTable.MAX_EPOCH_DAY;
+        epochDay++) {
+      LocalDate date = LocalDate.ofEpochDay(epochDay);
+      LocalDate start = SolarTerm.startOf(date);
+      assertTrue(!start.isAfter(date) && SolarTerm.nextStartOf(date).isAfter(date));
+      assertEquals(SolarTerm.of(date).getDate(start.getYear()), start);
+    }
+  }
+}